@@ -0,0 +1,129 @@
+package benchmark;
+
+import app.foot.controller.rest.Player;
+import app.foot.controller.rest.PlayerScorer;
+import app.foot.repository.entity.MatchEntity;
+import app.foot.repository.entity.PlayerEntity;
+import app.foot.repository.entity.PlayerScoreEntity;
+import app.foot.repository.entity.TeamEntity;
+import app.foot.repository.mapper.MatchMapper;
+import app.foot.repository.projection.GoalScorerCheck;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class BenchmarkData {
+    private static final int PLAYERS_PER_TEAM = 11;
+
+    public static TeamEntity team(int id) {
+        return TeamEntity.builder()
+                .id(id)
+                .name("E" + id)
+                .build();
+    }
+
+    public static PlayerEntity player(int id, TeamEntity team) {
+        return PlayerEntity.builder()
+                .id(id)
+                .name("J" + id)
+                .guardian(false)
+                .team(team)
+                .build();
+    }
+
+    public static MatchEntity match(int id, int scorerCount) {
+        TeamEntity teamA = team(2 * id);
+        TeamEntity teamB = team(2 * id + 1);
+        MatchEntity match = MatchEntity.builder()
+                .id(id)
+                .teamA(teamA)
+                .teamB(teamB)
+                .stadium("S" + id)
+                .datetime(Instant.parse("2023-01-01T10:00:00Z").plusSeconds(3600L * id))
+                .build();
+        List<PlayerScoreEntity> scorers = new ArrayList<>(scorerCount);
+        for (int i = 0; i < scorerCount; i++) {
+            TeamEntity team = i % 2 == 0 ? teamA : teamB;
+            scorers.add(PlayerScoreEntity.builder()
+                    .id(i)
+                    .match(match)
+                    .player(player(team.getId() * PLAYERS_PER_TEAM + i % PLAYERS_PER_TEAM, team))
+                    .minute(i % 91)
+                    .ownGoal(i % 5 == 0)
+                    .build());
+        }
+        match.setScorers(scorers);
+        match.setScoreA((int) scorers.stream().filter(scorer -> MatchMapper.isGoalFor(teamA, scorer)).count());
+        match.setScoreB(scorerCount - match.getScoreA());
+        return match;
+    }
+
+    public static List<MatchEntity> matches(int matchCount, int scorerCount) {
+        return IntStream.range(0, matchCount)
+                .mapToObj(id -> match(id, scorerCount))
+                .toList();
+    }
+
+    public static PlayerScorer restScorer(int minute) {
+        return PlayerScorer.builder()
+                .player(Player.builder()
+                        .id(1)
+                        .name("J1")
+                        .teamName("E1")
+                        .isGuardian(false)
+                        .build())
+                .scoreTime(minute)
+                .isOG(false)
+                .build();
+    }
+
+    public static List<PlayerScorer> restScorers(int count, int minute) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(id -> PlayerScorer.builder()
+                        .player(Player.builder()
+                                .id(id)
+                                .name("J" + id)
+                                .teamName("E1")
+                                .isGuardian(false)
+                                .build())
+                        .scoreTime(minute)
+                        .isOG(false)
+                        .build())
+                .toList();
+    }
+
+    public static List<GoalScorerCheck> scorerChecks(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(id -> (GoalScorerCheck) new ScorerCheck(id))
+                .toList();
+    }
+
+    private record ScorerCheck(Integer playerId) implements GoalScorerCheck {
+        @Override
+        public int getTeamAId() {
+            return 1;
+        }
+
+        @Override
+        public int getTeamBId() {
+            return 2;
+        }
+
+        @Override
+        public Integer getPlayerId() {
+            return playerId;
+        }
+
+        @Override
+        public Boolean getGuardian() {
+            return false;
+        }
+
+        @Override
+        public Integer getPlayerTeamId() {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package benchmark;
+
+import app.foot.controller.rest.PlayerScorer;
+import app.foot.controller.validator.GoalBatchValidator;
+import app.foot.exception.BadRequestException;
+import app.foot.repository.projection.GoalScorerCheck;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GoalBatchValidatorBenchmark {
+    @Param({"1", "50"})
+    int goalCount;
+    List<PlayerScorer> valid;
+    List<PlayerScorer> invalid;
+    List<GoalScorerCheck> checks;
+
+    @Setup
+    public void setUp() {
+        valid = BenchmarkData.restScorers(goalCount, 10);
+        invalid = BenchmarkData.restScorers(goalCount, 91);
+        checks = BenchmarkData.scorerChecks(goalCount);
+    }
+
+    @Benchmark
+    public List<PlayerScorer> acceptValid() {
+        GoalBatchValidator.validate(1, valid, checks);
+        return valid;
+    }
+
+    @Benchmark
+    public BadRequestException rejectInvalid() {
+        try {
+            GoalBatchValidator.validate(1, invalid, checks);
+            return null;
+        } catch (BadRequestException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package benchmark;
+
+import app.foot.controller.rest.mapper.MatchRestMapper;
+import app.foot.controller.rest.mapper.PlayerRestMapper;
+import app.foot.controller.rest.mapper.PlayerScorerRestMapper;
+import app.foot.controller.rest.mapper.TeamMatchMapper;
+import app.foot.controller.rest.mapper.TeamRestMapper;
+import app.foot.repository.mapper.MatchMapper;
+import app.foot.repository.mapper.PlayerMapper;
+import app.foot.repository.mapper.TeamMapper;
+
+public class Mappers {
+    // only the entity to domain direction is measured, so no team directory is needed
+    public static final PlayerMapper PLAYER_MAPPER = new PlayerMapper(null);
+    public static final MatchMapper MATCH_MAPPER = new MatchMapper(new TeamMapper(), PLAYER_MAPPER);
+    public static final PlayerScorerRestMapper PLAYER_SCORER_REST_MAPPER =
+            new PlayerScorerRestMapper(new PlayerRestMapper());
+    public static final MatchRestMapper MATCH_REST_MAPPER = new MatchRestMapper(
+            new TeamMatchMapper(new TeamRestMapper(), PLAYER_SCORER_REST_MAPPER));
+}
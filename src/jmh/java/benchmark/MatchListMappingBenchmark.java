@@ -0,0 +1,39 @@
+package benchmark;
+
+import app.foot.repository.entity.MatchEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static benchmark.Mappers.MATCH_MAPPER;
+import static benchmark.Mappers.MATCH_REST_MAPPER;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class MatchListMappingBenchmark {
+    @Param({"10", "1000", "100000"})
+    int matchCount;
+    @Param({"4"})
+    int scorersPerMatch;
+
+    List<MatchEntity> entities;
+
+    @Setup
+    public void setUp() {
+        entities = BenchmarkData.matches(matchCount, scorersPerMatch);
+    }
+
+    @Benchmark
+    public List<app.foot.controller.rest.Match> entitiesToRest() {
+        return entities.stream()
+                .map(MATCH_MAPPER::toDomain)
+                .toList().stream()
+                .map(MATCH_REST_MAPPER::toRest)
+                .toList();
+    }
+}
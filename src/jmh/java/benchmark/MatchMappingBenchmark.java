@@ -0,0 +1,45 @@
+package benchmark;
+
+import app.foot.model.Match;
+import app.foot.repository.entity.MatchEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static benchmark.Mappers.MATCH_MAPPER;
+import static benchmark.Mappers.MATCH_REST_MAPPER;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchMappingBenchmark {
+    @Param({"0", "10", "50", "200"})
+    int scorerCount;
+
+    MatchEntity entity;
+    Match domain;
+
+    @Setup
+    public void setUp() {
+        entity = BenchmarkData.match(1, scorerCount);
+        domain = MATCH_MAPPER.toDomain(entity);
+    }
+
+    @Benchmark
+    public Match entityToDomain() {
+        return MATCH_MAPPER.toDomain(entity);
+    }
+
+    @Benchmark
+    public app.foot.controller.rest.Match domainToRest() {
+        return MATCH_REST_MAPPER.toRest(domain);
+    }
+
+    @Benchmark
+    public app.foot.controller.rest.Match entityToRest() {
+        return MATCH_REST_MAPPER.toRest(MATCH_MAPPER.toDomain(entity));
+    }
+}
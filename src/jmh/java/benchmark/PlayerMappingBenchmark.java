@@ -0,0 +1,53 @@
+package benchmark;
+
+import app.foot.model.Player;
+import app.foot.model.PlayerScorer;
+import app.foot.repository.entity.PlayerEntity;
+import app.foot.repository.entity.PlayerScoreEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static benchmark.Mappers.PLAYER_MAPPER;
+import static benchmark.Mappers.PLAYER_SCORER_REST_MAPPER;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerMappingBenchmark {
+    PlayerEntity playerEntity;
+    PlayerScoreEntity scorerEntity;
+    PlayerScorer scorer;
+    app.foot.controller.rest.PlayerScorer restScorer;
+
+    @Setup
+    public void setUp() {
+        playerEntity = BenchmarkData.player(1, BenchmarkData.team(1));
+        scorerEntity = BenchmarkData.match(1, 1).getScorers().get(0);
+        scorer = PLAYER_MAPPER.toDomain(scorerEntity);
+        restScorer = BenchmarkData.restScorer(10);
+    }
+
+    @Benchmark
+    public Player playerEntityToDomain() {
+        return PLAYER_MAPPER.toDomain(playerEntity);
+    }
+
+    @Benchmark
+    public PlayerScorer scorerEntityToDomain() {
+        return PLAYER_MAPPER.toDomain(scorerEntity);
+    }
+
+    @Benchmark
+    public app.foot.controller.rest.PlayerScorer scorerDomainToRest() {
+        return PLAYER_SCORER_REST_MAPPER.toRest(scorer);
+    }
+
+    @Benchmark
+    public PlayerScorer scorerRestToDomain() {
+        return PLAYER_SCORER_REST_MAPPER.toDomain(restScorer);
+    }
+}
@@ -0,0 +1,102 @@
+package benchmark;
+
+import app.foot.FootApi;
+import app.foot.model.Player;
+import app.foot.repository.entity.PlayerEntity;
+import app.foot.repository.mapper.PlayerMapper;
+import app.foot.service.PlayerService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads every player page by page, through managed entities and through read-only projections.
+ * Run with the GC profiler, gc.alloc.rate.norm gives the heap allocated to read them all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PlayerQueryBenchmark {
+    private static final String SEEDED_NAME_PREFIX = "Benchmark player ";
+
+    @Param("100000")
+    int playerCount;
+    @Param({"100", "500"})
+    int pageSize;
+
+    ConfigurableApplicationContext context;
+    PlayerService playerService;
+    PlayerMapper playerMapper;
+    EntityManager entityManager;
+    TransactionTemplate transactionTemplate;
+    JdbcTemplate jdbcTemplate;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(FootApi.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        playerService = context.getBean(PlayerService.class);
+        playerMapper = context.getBean(PlayerMapper.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        deleteSeededPlayers();
+        jdbcTemplate.update("insert into player (\"name\", id_team, guardian)"
+                + " select concat(?, i), 1, false from generate_series(1, ?) i", SEEDED_NAME_PREFIX, playerCount);
+    }
+
+    @TearDown
+    public void tearDown() {
+        deleteSeededPlayers();
+        context.close();
+    }
+
+    @Benchmark
+    public int managedEntities() {
+        int count = 0;
+        Integer afterId = 0;
+        List<Player> page;
+        do {
+            Integer pageAfterId = afterId;
+            page = transactionTemplate.execute(status -> entityManager.createQuery(
+                            "select p from player p join fetch p.team where p.id > :id order by p.id",
+                            PlayerEntity.class)
+                    .setParameter("id", pageAfterId)
+                    .setMaxResults(pageSize)
+                    .getResultStream()
+                    .map(playerMapper::toDomain)
+                    .toList());
+            count += page.size();
+            afterId = page.isEmpty() ? afterId : page.get(page.size() - 1).getId();
+        } while (page.size() == pageSize);
+        return count;
+    }
+
+    @Benchmark
+    public int readOnlyProjections() {
+        int count = 0;
+        Integer afterId = null;
+        List<Player> page;
+        do {
+            page = playerService.getPlayers(afterId, pageSize);
+            count += page.size();
+            afterId = page.isEmpty() ? afterId : page.get(page.size() - 1).getId();
+        } while (page.size() == pageSize);
+        return count;
+    }
+
+    private void deleteSeededPlayers() {
+        jdbcTemplate.update("delete from player where \"name\" like ?", SEEDED_NAME_PREFIX + "%");
+    }
+}
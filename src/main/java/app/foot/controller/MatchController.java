@@ -1,42 +1,205 @@
 package app.foot.controller;
 
+import app.foot.controller.rest.GoalTicket;
 import app.foot.controller.rest.Match;
 import app.foot.controller.rest.PlayerScorer;
+import app.foot.controller.rest.mapper.CursorRestMapper;
+import app.foot.controller.rest.mapper.GoalEventRestMapper;
+import app.foot.controller.rest.mapper.GoalTicketRestMapper;
 import app.foot.controller.rest.mapper.MatchRestMapper;
 import app.foot.controller.rest.mapper.PlayerScorerRestMapper;
-import app.foot.controller.validator.GoalValidator;
+import app.foot.controller.validator.GoalBatchValidator;
+import app.foot.controller.validator.MatchFilterValidator;
+import app.foot.controller.validator.PageSizeValidator;
+import app.foot.model.GoalEvent;
+import app.foot.model.MatchCursor;
+import app.foot.model.MatchFilter;
+import app.foot.service.GoalIngestionService;
+import app.foot.service.GoalSubmissionService;
+import app.foot.service.MatchEventService;
 import app.foot.service.MatchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 
 @RestController
 @AllArgsConstructor
 public class MatchController {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final MatchService service;
-    private final GoalValidator validator;
+    private final GoalBatchValidator validator;
     private final MatchRestMapper mapper;
     private final PlayerScorerRestMapper scorerMapper;
+    private final CursorRestMapper cursorMapper;
+    private final PageSizeValidator pageSizeValidator;
+    private final MatchFilterValidator filterValidator;
+    private final ObjectMapper objectMapper;
+    private final GoalIngestionService ingestionService;
+    private final GoalTicketRestMapper ticketMapper;
+    private final GoalSubmissionService submissionService;
+    private final MatchEventService eventService;
+    private final GoalEventRestMapper eventMapper;
+
+    @GetMapping(value = "/matches/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(@PathVariable Integer id,
+                                                  @RequestHeader(name = "Last-Event-ID", required = false)
+                                                  String lastEventId) {
+        service.getMatchById(id);
+        SseEmitter emitter = new SseEmitter(eventService.getStreamTimeout());
+        return eventService.subscribe(id, lastEventId, event -> send(emitter, event), emitter::complete)
+                .map(unsubscribe -> {
+                    emitter.onCompletion(unsubscribe);
+                    emitter.onTimeout(unsubscribe);
+                    emitter.onError(e -> unsubscribe.run());
+                    return ResponseEntity.ok(emitter);
+                })
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .build());
+    }
 
     @GetMapping("/matches/{id}")
-    public Match getMatchById(@PathVariable Integer id) {
-        return mapper.toRest(service.getMatchById(id));
+    public ResponseEntity<Match> getMatchById(@PathVariable Integer id, WebRequest request) {
+        app.foot.model.Match match = service.getMatchById(id);
+        String eTag = eTag(match.getVersion());
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(mapper.toRest(match));
     }
     //TODO: add integration test ok and ko
     @GetMapping("/matches")
-    public List<Match> getMatches() {
-        return service.getMatches().stream()
+    public ResponseEntity<List<Match>> getMatches(@RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer pageSize,
+                                                  @RequestParam(defaultValue = "true") boolean withScorers,
+                                                  @RequestParam(required = false) Integer teamId,
+                                                  @RequestParam(required = false)
+                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                  @RequestParam(required = false)
+                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                                  @RequestParam(required = false) String stadium,
+                                                  WebRequest request) {
+        int size = pageSizeValidator.apply(pageSize);
+        MatchCursor after = cursorMapper.toMatchCursor(cursor);
+        MatchFilter filter = filter(teamId, from, to, stadium);
+        // read before the page, so that a page changed meanwhile is not tagged as up to date
+        String eTag = eTag(service.getMatchesVersion());
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        List<app.foot.model.Match> matches = service.getMatches(filter, after, size, withScorers);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(eTag);
+        if (matches.size() == size) {
+            response.header(CursorRestMapper.NEXT_CURSOR_HEADER,
+                    cursorMapper.toRest(matches.get(matches.size() - 1)));
+        }
+        return response.body(matches.stream()
                 .map(mapper::toRest)
-                .toList();
+                .toList());
+    }
+
+    @GetMapping("/matches/count")
+    public long countMatches(@RequestParam(required = false) Integer teamId,
+                             @RequestParam(required = false)
+                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                             @RequestParam(required = false)
+                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                             @RequestParam(required = false) String stadium) {
+        return service.countMatches(filter(teamId, from, to, stadium));
+    }
+
+    @GetMapping(value = "/matches/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMatches() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> service.exportMatches(match -> writeLine(outputStream, mapper.toRest(match))));
+    }
+
+    private void send(SseEmitter emitter, GoalEvent event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(event.getId())
+                    .name("goal")
+                    .data(eventMapper.toRest(event), MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MatchFilter filter(Integer teamId, Instant from, Instant to, String stadium) {
+        MatchFilter filter = MatchFilter.builder()
+                .teamId(teamId)
+                .from(from)
+                .to(to)
+                .stadium(stadium)
+                .build();
+        filterValidator.accept(filter);
+        return filter;
+    }
+
+    private static String eTag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    private void writeLine(OutputStream outputStream, Match match) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(match));
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @PostMapping("/matches/{matchId}/goals")
-    public Match addGoals(@PathVariable int matchId, @RequestBody List<PlayerScorer> scorers) {
-        scorers.forEach(validator);
+    public Match addGoals(@PathVariable int matchId,
+                          @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                          @RequestBody List<PlayerScorer> scorers) {
+        validator.accept(matchId, scorers);
         List<app.foot.model.PlayerScorer> scorerList = scorers.stream()
                 .map(scorerMapper::toDomain)
                 .toList();
-        return mapper.toRest(service.addGoals(matchId, scorerList));
+        return mapper.toRest(idempotencyKey == null
+                ? service.addGoals(matchId, scorerList)
+                : submissionService.addGoals(matchId, scorerList, idempotencyKey));
+    }
+
+    @PostMapping("/matches/{matchId}/goals/async")
+    public ResponseEntity<GoalTicket> addGoalsAsync(@PathVariable int matchId, @RequestBody List<PlayerScorer> scorers) {
+        validator.accept(matchId, scorers);
+        List<app.foot.model.PlayerScorer> scorerList = scorers.stream()
+                .map(scorerMapper::toDomain)
+                .toList();
+        return ingestionService.submit(matchId, scorerList)
+                .map(ticket -> ResponseEntity.accepted()
+                        .location(URI.create("/goal-tickets/" + ticket.getId()))
+                        .body(ticketMapper.toRest(ticket)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .build());
+    }
+
+    @GetMapping("/goal-tickets/{ticketId}")
+    public ResponseEntity<GoalTicket> getGoalTicket(@PathVariable String ticketId) {
+        return ResponseEntity.of(ingestionService.getTicket(ticketId)
+                .map(ticketMapper::toRest));
     }
 }
@@ -1,13 +1,22 @@
 package app.foot.controller;
 
 import app.foot.controller.rest.Player;
+import app.foot.controller.rest.PlayerStats;
+import app.foot.controller.rest.mapper.CursorRestMapper;
 import app.foot.controller.rest.mapper.PlayerRestMapper;
+import app.foot.controller.rest.mapper.PlayerStatsRestMapper;
+import app.foot.controller.validator.PageSizeValidator;
+import app.foot.controller.validator.PlayerIdsValidator;
 import app.foot.service.PlayerService;
+import app.foot.service.PlayerStatsService;
 import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -18,12 +27,38 @@ import java.util.stream.Collectors;
 public class PlayerController {
     private final PlayerRestMapper mapper;
     private final PlayerService service;
+    private final CursorRestMapper cursorMapper;
+    private final PageSizeValidator pageSizeValidator;
+    private final PlayerStatsService statsService;
+    private final PlayerStatsRestMapper statsMapper;
+    private final PlayerIdsValidator idsValidator;
 
     @GetMapping("/players")
-    public List<Player> getPlayers() {
-        return service.getPlayers().stream()
+    public ResponseEntity<List<Player>> getPlayers(@RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer pageSize) {
+        int size = pageSizeValidator.apply(pageSize);
+        List<app.foot.model.Player> players = service.getPlayers(cursorMapper.toPlayerCursor(cursor), size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (players.size() == size) {
+            response.header(CursorRestMapper.NEXT_CURSOR_HEADER,
+                    cursorMapper.toRest(players.get(players.size() - 1)));
+        }
+        return response.body(players.stream()
                 .map(mapper::toRest)
-                .collect(Collectors.toUnmodifiableList());
+                .collect(Collectors.toUnmodifiableList()));
+    }
+
+    @GetMapping("/players/{id}/stats")
+    public PlayerStats getPlayerStats(@PathVariable int id) {
+        return statsMapper.toRest(statsService.getStats(id));
+    }
+
+    @GetMapping("/players/stats")
+    public List<PlayerStats> getPlayersStats(@RequestParam(required = false) List<Integer> ids) {
+        idsValidator.accept(ids);
+        return statsService.getStats(ids).stream()
+                .map(statsMapper::toRest)
+                .toList();
     }
 
     @PostMapping("/players")
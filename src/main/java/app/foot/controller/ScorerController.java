@@ -0,0 +1,28 @@
+package app.foot.controller;
+
+import app.foot.controller.rest.TopScorer;
+import app.foot.controller.rest.mapper.TopScorerRestMapper;
+import app.foot.controller.validator.PageSizeValidator;
+import app.foot.service.TopScorerService;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@AllArgsConstructor
+public class ScorerController {
+    private final TopScorerService service;
+    private final TopScorerRestMapper mapper;
+    private final PageSizeValidator pageSizeValidator;
+
+    @GetMapping("/scorers/top")
+    public List<TopScorer> getTopScorers(@RequestParam(defaultValue = "10") Integer limit,
+                                         @RequestParam(required = false) Integer teamId) {
+        return service.getTopScorers(pageSizeValidator.apply(limit), teamId).stream()
+                .map(mapper::toRest)
+                .toList();
+    }
+}
@@ -0,0 +1,24 @@
+package app.foot.controller;
+
+import app.foot.controller.rest.Standing;
+import app.foot.controller.rest.mapper.StandingRestMapper;
+import app.foot.service.StandingService;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@AllArgsConstructor
+public class StandingController {
+    private final StandingService service;
+    private final StandingRestMapper mapper;
+
+    @GetMapping("/standings")
+    public List<Standing> getStandings() {
+        return service.getStandings().stream()
+                .map(mapper::toRest)
+                .toList();
+    }
+}
@@ -0,0 +1,19 @@
+package app.foot.controller.rest;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@EqualsAndHashCode
+@ToString
+public class GoalEvent {
+  private Integer playerId;
+  private String playerName;
+  private String teamName;
+  private Integer scoreTime;
+  private Boolean isOG;
+  private int scoreA;
+  private int scoreB;
+}
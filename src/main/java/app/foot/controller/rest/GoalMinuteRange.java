@@ -0,0 +1,15 @@
+package app.foot.controller.rest;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@EqualsAndHashCode
+@ToString
+public class GoalMinuteRange {
+  private int fromMinute;
+  private int toMinute;
+  private int goals;
+}
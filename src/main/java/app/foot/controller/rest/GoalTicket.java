@@ -0,0 +1,16 @@
+package app.foot.controller.rest;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@EqualsAndHashCode
+@ToString
+public class GoalTicket {
+  private String id;
+  private Integer matchId;
+  private String status;
+  private String error;
+}
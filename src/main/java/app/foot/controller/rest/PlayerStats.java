@@ -0,0 +1,21 @@
+package app.foot.controller.rest;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@EqualsAndHashCode
+@ToString
+public class PlayerStats {
+  private Player player;
+  private int goals;
+  private int ownGoals;
+  private int matchesScoredIn;
+  private int matchesPlayed;
+  private double goalsPerMatch;
+  private List<GoalMinuteRange> goalsByMinute;
+}
@@ -0,0 +1,21 @@
+package app.foot.controller.rest;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@EqualsAndHashCode
+@ToString
+public class Standing {
+  private Team team;
+  private int played;
+  private int won;
+  private int drawn;
+  private int lost;
+  private int goalsFor;
+  private int goalsAgainst;
+  private int goalDifference;
+  private int points;
+}
@@ -0,0 +1,14 @@
+package app.foot.controller.rest;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@EqualsAndHashCode
+@ToString
+public class TopScorer {
+  private Player player;
+  private int goals;
+}
@@ -0,0 +1,65 @@
+package app.foot.controller.rest.mapper;
+
+import app.foot.exception.BadRequestException;
+import app.foot.model.Match;
+import app.foot.model.MatchCursor;
+import app.foot.model.Player;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+@Component
+public class CursorRestMapper {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String SEPARATOR = "|";
+
+    public String toRest(Match last) {
+        return encode(last.getDatetime() + SEPARATOR + last.getId());
+    }
+
+    public String toRest(Player last) {
+        return encode(String.valueOf(last.getId()));
+    }
+
+    public MatchCursor toMatchCursor(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String decoded = decode(cursor);
+        int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+        try {
+            return MatchCursor.builder()
+                    .datetime(Instant.parse(decoded.substring(0, separatorIndex)))
+                    .id(Integer.parseInt(decoded.substring(separatorIndex + 1)))
+                    .build();
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Cursor " + cursor + " is not valid.");
+        }
+    }
+
+    public Integer toPlayerCursor(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(decode(cursor));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Cursor " + cursor + " is not valid.");
+        }
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Cursor " + cursor + " is not valid.");
+        }
+    }
+}
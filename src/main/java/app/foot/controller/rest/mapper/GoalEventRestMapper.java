@@ -0,0 +1,19 @@
+package app.foot.controller.rest.mapper;
+
+import app.foot.controller.rest.GoalEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GoalEventRestMapper {
+  public GoalEvent toRest(app.foot.model.GoalEvent domain) {
+    return GoalEvent.builder()
+        .playerId(domain.getScorer().getPlayer().getId())
+        .playerName(domain.getScorer().getPlayer().getName())
+        .teamName(domain.getScorer().getPlayer().getTeamName())
+        .scoreTime(domain.getScorer().getMinute())
+        .isOG(domain.getScorer().getIsOwnGoal())
+        .scoreA(domain.getScoreA())
+        .scoreB(domain.getScoreB())
+        .build();
+  }
+}
@@ -0,0 +1,16 @@
+package app.foot.controller.rest.mapper;
+
+import app.foot.controller.rest.GoalTicket;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GoalTicketRestMapper {
+  public GoalTicket toRest(app.foot.model.GoalTicket domain) {
+    return GoalTicket.builder()
+        .id(domain.getId())
+        .matchId(domain.getMatchId())
+        .status(domain.getStatus().name())
+        .error(domain.getError())
+        .build();
+  }
+}
@@ -0,0 +1,30 @@
+package app.foot.controller.rest.mapper;
+
+import app.foot.controller.rest.GoalMinuteRange;
+import app.foot.controller.rest.PlayerStats;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class PlayerStatsRestMapper {
+  private final PlayerRestMapper playerMapper;
+
+  public PlayerStats toRest(app.foot.model.PlayerStats domain) {
+    return PlayerStats.builder()
+        .player(playerMapper.toRest(domain.getPlayer()))
+        .goals(domain.getGoals())
+        .ownGoals(domain.getOwnGoals())
+        .matchesScoredIn(domain.getMatchesScoredIn())
+        .matchesPlayed(domain.getMatchesPlayed())
+        .goalsPerMatch(domain.getGoalsPerMatch())
+        .goalsByMinute(domain.getGoalsByMinute().stream()
+            .map(range -> GoalMinuteRange.builder()
+                .fromMinute(range.getFromMinute())
+                .toMinute(range.getToMinute())
+                .goals(range.getGoals())
+                .build())
+            .toList())
+        .build();
+  }
+}
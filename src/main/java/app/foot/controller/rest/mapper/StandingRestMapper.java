@@ -0,0 +1,25 @@
+package app.foot.controller.rest.mapper;
+
+import app.foot.controller.rest.Standing;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class StandingRestMapper {
+  private final TeamRestMapper teamMapper;
+
+  public Standing toRest(app.foot.model.Standing domain) {
+    return Standing.builder()
+        .team(teamMapper.toRest(domain.getTeam()))
+        .played(domain.getPlayed())
+        .won(domain.getWon())
+        .drawn(domain.getDrawn())
+        .lost(domain.getLost())
+        .goalsFor(domain.getGoalsFor())
+        .goalsAgainst(domain.getGoalsAgainst())
+        .goalDifference(domain.getGoalDifference())
+        .points(domain.getPoints())
+        .build();
+  }
+}
@@ -14,7 +14,7 @@ public class TeamMatchMapper {
     return TeamMatch.builder()
         .team(mapper.toRest(domain.getTeam()))
         .score(domain.getScore())
-        .scorers(domain.getScorers().stream()
+        .scorers(domain.getScorers() == null ? null : domain.getScorers().stream()
             .map(playerScorerRestMapper::toRest)
             .toList())
         .build();
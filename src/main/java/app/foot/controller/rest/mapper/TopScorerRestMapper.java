@@ -0,0 +1,18 @@
+package app.foot.controller.rest.mapper;
+
+import app.foot.controller.rest.TopScorer;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class TopScorerRestMapper {
+  private final PlayerRestMapper playerMapper;
+
+  public TopScorer toRest(app.foot.model.TopScorer domain) {
+    return TopScorer.builder()
+        .player(playerMapper.toRest(domain.getPlayer()))
+        .goals(domain.getGoals())
+        .build();
+  }
+}
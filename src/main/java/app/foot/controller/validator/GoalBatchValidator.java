@@ -0,0 +1,84 @@
+package app.foot.controller.validator;
+
+import app.foot.controller.rest.PlayerScorer;
+import app.foot.exception.BadRequestException;
+import app.foot.repository.MatchRepository;
+import app.foot.repository.projection.GoalScorerCheck;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@AllArgsConstructor
+public class GoalBatchValidator implements BiConsumer<Integer, List<PlayerScorer>> {
+    private static final int FIRST_MINUTE = 0;
+    private static final int LAST_MINUTE = 90;
+
+    private final MatchRepository matchRepository;
+
+    @Override
+    public void accept(Integer matchId, List<PlayerScorer> scorers) {
+        Set<Integer> playerIds = scorers.stream()
+                .map(GoalBatchValidator::getPlayerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        List<GoalScorerCheck> checks = matchRepository.findGoalScorerChecks(matchId, playerIds);
+        if (checks.isEmpty()) {
+            throw new RuntimeException("Match#" + matchId + " not found.");
+        }
+        validate(matchId, scorers, checks);
+    }
+
+    public static void validate(int matchId, List<PlayerScorer> scorers, List<GoalScorerCheck> checks) {
+        List<String> errors = new ArrayList<>();
+        Set<Integer> matchTeamIds = Set.of(checks.get(0).getTeamAId(), checks.get(0).getTeamBId());
+        Map<Integer, GoalScorerCheck> players = checks.stream()
+                .filter(check -> check.getPlayerId() != null)
+                .collect(Collectors.toMap(GoalScorerCheck::getPlayerId, Function.identity()));
+
+        Set<String> goals = new HashSet<>();
+        for (PlayerScorer scorer : scorers) {
+            Integer playerId = getPlayerId(scorer);
+            if (playerId == null) {
+                errors.add("Player is mandatory.");
+                continue;
+            }
+            GoalScorerCheck player = players.get(playerId);
+            if (player == null) {
+                errors.add("Player#" + playerId + " does not exist.");
+            } else if (player.getGuardian()) {
+                errors.add("Player#" + playerId + " is a guardian so they cannot score.");
+            } else if (!matchTeamIds.contains(player.getPlayerTeamId())) {
+                errors.add("Player#" + playerId + " does not play in Match#" + matchId + ".");
+            }
+            if (scorer.getIsOG() == null) {
+                errors.add("Player#" + playerId + ": own goal flag is mandatory.");
+            }
+            Integer minute = scorer.getScoreTime();
+            if (minute == null) {
+                errors.add("Player#" + playerId + ": score minute is mandatory.");
+            } else if (minute < FIRST_MINUTE || minute > LAST_MINUTE) {
+                errors.add("Player#" + playerId + " cannot score at minute " + minute
+                        + ", only from minute " + FIRST_MINUTE + " to " + LAST_MINUTE + ".");
+            } else if (!goals.add(playerId + "@" + minute)) {
+                errors.add("Player#" + playerId + " scores more than once at minute " + minute + ".");
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new BadRequestException(String.join(" ", errors));
+        }
+    }
+
+    private static Integer getPlayerId(PlayerScorer scorer) {
+        return scorer.getPlayer() == null ? null : scorer.getPlayer().getId();
+    }
+}
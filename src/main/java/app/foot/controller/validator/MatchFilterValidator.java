@@ -0,0 +1,21 @@
+package app.foot.controller.validator;
+
+import app.foot.exception.BadRequestException;
+import app.foot.model.MatchFilter;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+@Component
+public class MatchFilterValidator implements Consumer<MatchFilter> {
+    @Override
+    public void accept(MatchFilter filter) {
+        if (filter.getFrom() != null && filter.getTo() != null && !filter.getFrom().isBefore(filter.getTo())) {
+            throw new BadRequestException("Date from " + filter.getFrom()
+                    + " must be before date to " + filter.getTo() + ".");
+        }
+        if (filter.getStadium() != null && filter.getStadium().isBlank()) {
+            throw new BadRequestException("Stadium must not be blank.");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package app.foot.controller.validator;
+
+import app.foot.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+@Component
+public class PageSizeValidator implements Function<Integer, Integer> {
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public PageSizeValidator(@Value("${foot.pagination.default-page-size}") int defaultPageSize,
+                             @Value("${foot.pagination.max-page-size}") int maxPageSize) {
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    public Integer apply(Integer pageSize) {
+        if (pageSize == null) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        if (pageSize < 1) {
+            throw new BadRequestException("Page size must be greater than 0.");
+        }
+        return Math.min(pageSize, maxPageSize);
+    }
+}
@@ -0,0 +1,27 @@
+package app.foot.controller.validator;
+
+import app.foot.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+public class PlayerIdsValidator implements Consumer<List<Integer>> {
+    private final int maxPageSize;
+
+    public PlayerIdsValidator(@Value("${foot.pagination.max-page-size}") int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    public void accept(List<Integer> playerIds) {
+        if (playerIds == null || playerIds.isEmpty() || playerIds.contains(null)) {
+            throw new BadRequestException("Player ids are required.");
+        }
+        if (playerIds.size() > maxPageSize) {
+            throw new BadRequestException("At most " + maxPageSize + " players can be requested at once.");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package app.foot.model;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+public class GoalEvent implements Comparable<GoalEvent> {
+    private Integer matchId;
+    private long version;
+    private int index;
+    private PlayerScorer scorer;
+    private int scoreA;
+    private int scoreB;
+
+    public String getId() {
+        return version + "-" + index;
+    }
+
+    @Override
+    public int compareTo(GoalEvent other) {
+        return version != other.version
+                ? Long.compare(version, other.version)
+                : Integer.compare(index, other.index);
+    }
+}
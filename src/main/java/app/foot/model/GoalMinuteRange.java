@@ -0,0 +1,15 @@
+package app.foot.model;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+public class GoalMinuteRange {
+    private int fromMinute;
+    private int toMinute;
+    private int goals;
+}
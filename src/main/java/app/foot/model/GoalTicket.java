@@ -0,0 +1,20 @@
+package app.foot.model;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder(toBuilder = true)
+@ToString
+@EqualsAndHashCode
+public class GoalTicket {
+    private String id;
+    private Integer matchId;
+    private Status status;
+    private String error;
+
+    public enum Status {
+        PENDING, COMMITTED, FAILED
+    }
+}
@@ -16,4 +16,5 @@ public class Match {
     private TeamMatch teamB;
     private String stadium;
     private Instant datetime;
+    private long version;
 }
@@ -0,0 +1,16 @@
+package app.foot.model;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+public class MatchCursor {
+    private Instant datetime;
+    private Integer id;
+}
@@ -0,0 +1,21 @@
+package app.foot.model;
+
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Criteria of a match search, each one ignored when null. "from" is included and "to" excluded.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+public class MatchFilter {
+    private Integer teamId;
+    private Instant from;
+    private Instant to;
+    private String stadium;
+}
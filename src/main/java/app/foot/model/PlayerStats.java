@@ -0,0 +1,21 @@
+package app.foot.model;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+public class PlayerStats {
+    private Player player;
+    private int goals;
+    private int ownGoals;
+    private int matchesScoredIn;
+    private int matchesPlayed;
+    private double goalsPerMatch;
+    private List<GoalMinuteRange> goalsByMinute;
+}
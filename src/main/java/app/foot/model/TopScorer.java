@@ -0,0 +1,14 @@
+package app.foot.model;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder(toBuilder = true)
+@ToString
+@EqualsAndHashCode
+public class TopScorer {
+    private Player player;
+    private int goals;
+}
@@ -0,0 +1,29 @@
+package app.foot.repository;
+
+import app.foot.repository.entity.GoalSubmissionEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface GoalSubmissionRepository extends JpaRepository<GoalSubmissionEntity, String> {
+    // returns 0 when the key is already stored, waiting for an insert of the same key still in progress
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "goal_submission"))
+    @Query(value = "insert into goal_submission (idempotency_key, id_match) values (:key, :matchId)"
+            + " on conflict do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key, @Param("matchId") int matchId);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "goal_submission"))
+    @Query(value = "delete from goal_submission where created_at < now() - make_interval(secs => :seconds)",
+            nativeQuery = true)
+    int deleteOlderThan(@Param("seconds") long seconds);
+}
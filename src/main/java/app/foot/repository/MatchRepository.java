@@ -1,9 +1,83 @@
 package app.foot.repository;
 
 import app.foot.repository.entity.MatchEntity;
+import app.foot.repository.projection.GoalScorerCheck;
+import app.foot.repository.projection.MatchRow;
+import app.foot.repository.projection.MatchScores;
+import app.foot.repository.projection.MatchVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface MatchRepository extends JpaRepository<MatchEntity, Integer> {
+public interface MatchRepository extends JpaRepository<MatchEntity, Integer>, MatchSearchRepository {
+    @Override
+    @EntityGraph(MatchEntity.WITH_SCORERS)
+    List<MatchEntity> findAll();
+
+    @Override
+    @EntityGraph(MatchEntity.WITH_SCORERS)
+    Optional<MatchEntity> findById(Integer id);
+
+    // ids are selected apart, so that the page limit is not applied to a join
+    @Query("select new app.foot.repository.projection.MatchRow(m.id, m.datetime, m.stadium, m.version,"
+            + " m.scoreA, m.scoreB, a.id, a.name, b.id, b.name)"
+            + " from match m join m.teamA a join m.teamB b"
+            + " where m.id in :ids order by m.datetime, m.id")
+    List<MatchRow> findRowsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @EntityGraph(attributePaths = {"teamA", "teamB"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + MatchRepository.STREAM_FETCH_SIZE))
+    @Query("select m from match m order by m.id")
+    Stream<MatchEntity> streamAll();
+
+    int STREAM_FETCH_SIZE = 500;
+
+    /*
+     * Native updates clear the whole second-level cache unless they name the tables they write.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "match"))
+    @Query(value = "update match set score_a = score_a + :goalsA, score_b = score_b + :goalsB,"
+            + " version = nextval('match_version_seq') where id = :id", nativeQuery = true)
+    void addScores(@Param("id") int id, @Param("goalsA") int goalsA, @Param("goalsB") int goalsB);
+
+    @Query("select m.scoreA as scoreA, m.scoreB as scoreB, m.version as version from match m where m.id = :id")
+    MatchScores findScoresById(@Param("id") int id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "match"))
+    @Query(value = "update match set version = nextval('match_version_seq')"
+            + " where id in (select id_match from player_score where id_player in :playerIds)", nativeQuery = true)
+    void addVersionsByScorerIdIn(@Param("playerIds") Collection<Integer> playerIds);
+
+    @Query("select m.id as id, m.version as version from match m"
+            + " where m.id in (select s.match.id from player_score s where s.player.id in :playerIds)")
+    List<MatchVersion> findVersionsByScorerIdIn(@Param("playerIds") Collection<Integer> playerIds);
+
+    // players are left joined, so that no row at all means that the match does not exist
+    @Query("select m.teamA.id as teamAId, m.teamB.id as teamBId,"
+            + " p.id as playerId, p.guardian as guardian, p.team.id as playerTeamId"
+            + " from match m left join player p on p.id in :playerIds"
+            + " where m.id = :id")
+    List<GoalScorerCheck> findGoalScorerChecks(@Param("id") int id, @Param("playerIds") Collection<Integer> playerIds);
+
+    @Query("select coalesce(max(m.version), 0) from match m")
+    long findMaxVersion();
+
+    @EntityGraph(attributePaths = {"teamA", "teamB"})
+    @Query("select m from match m where m.datetime <= :now or m.scoreA > 0 or m.scoreB > 0")
+    List<MatchEntity> findAllStarted(@Param("now") Instant now);
 }
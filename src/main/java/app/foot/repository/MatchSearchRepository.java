@@ -0,0 +1,12 @@
+package app.foot.repository;
+
+import app.foot.model.MatchCursor;
+import app.foot.model.MatchFilter;
+
+import java.util.List;
+
+public interface MatchSearchRepository {
+    List<Integer> findPageIds(MatchFilter filter, MatchCursor after, int pageSize);
+
+    long count(MatchFilter filter);
+}
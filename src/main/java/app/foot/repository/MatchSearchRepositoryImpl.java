@@ -0,0 +1,71 @@
+package app.foot.repository;
+
+import app.foot.model.MatchCursor;
+import app.foot.model.MatchFilter;
+import app.foot.repository.entity.MatchEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.AllArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@AllArgsConstructor
+public class MatchSearchRepositoryImpl implements MatchSearchRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Integer> findPageIds(MatchFilter filter, MatchCursor after, int pageSize) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Integer> query = builder.createQuery(Integer.class);
+        Root<MatchEntity> match = query.from(MatchEntity.class);
+        List<Predicate> predicates = predicates(builder, match, filter);
+        if (after != null) {
+            Instant datetime = after.getDatetime();
+            predicates.add(builder.or(
+                    builder.greaterThan(match.get("datetime"), datetime),
+                    builder.and(
+                            builder.equal(match.get("datetime"), datetime),
+                            builder.greaterThan(match.get("id"), after.getId()))));
+        }
+        query.select(match.get("id"))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(match.get("datetime")), builder.asc(match.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(pageSize)
+                .getResultList();
+    }
+
+    @Override
+    public long count(MatchFilter filter) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<MatchEntity> match = query.from(MatchEntity.class);
+        query.select(builder.count(match))
+                .where(predicates(builder, match, filter).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<Predicate> predicates(CriteriaBuilder builder, Root<MatchEntity> match, MatchFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getTeamId() != null) {
+            predicates.add(builder.or(
+                    builder.equal(match.get("teamA").get("id"), filter.getTeamId()),
+                    builder.equal(match.get("teamB").get("id"), filter.getTeamId())));
+        }
+        if (filter.getFrom() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(match.get("datetime"), filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            predicates.add(builder.lessThan(match.get("datetime"), filter.getTo()));
+        }
+        if (filter.getStadium() != null) {
+            predicates.add(builder.equal(match.get("stadium"), filter.getStadium()));
+        }
+        return predicates;
+    }
+}
@@ -1,10 +1,27 @@
 package app.foot.repository;
 
-import app.foot.repository.entity.MatchEntity;
 import app.foot.repository.entity.PlayerEntity;
+import app.foot.repository.projection.PlayerRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface PlayerRepository extends JpaRepository<PlayerEntity, Integer> {
+    @EntityGraph(attributePaths = "team")
+    List<PlayerEntity> findAllByIdIn(Collection<Integer> ids);
+
+    @Query("select new app.foot.repository.projection.PlayerRow(p.id, p.name, p.guardian, t.name)"
+            + " from player p join p.team t order by p.id")
+    List<PlayerRow> findFirstPageRows(Pageable pageable);
+
+    @Query("select new app.foot.repository.projection.PlayerRow(p.id, p.name, p.guardian, t.name)"
+            + " from player p join p.team t where p.id > :id order by p.id")
+    List<PlayerRow> findPageRowsAfter(@Param("id") Integer id, Pageable pageable);
 }
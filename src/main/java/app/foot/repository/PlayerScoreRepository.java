@@ -1,9 +1,53 @@
 package app.foot.repository;
 
 import app.foot.repository.entity.PlayerScoreEntity;
+import app.foot.repository.projection.PlayerGoals;
+import app.foot.repository.projection.PlayerStatsRow;
+import app.foot.repository.projection.ScorerRow;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface PlayerScoreRepository extends JpaRepository<PlayerScoreEntity, Integer> {
+    @EntityGraph(attributePaths = {"player", "player.team"})
+    @Query("select s from player_score s where s.match.id in :matchIds order by s.id")
+    List<PlayerScoreEntity> findAllByMatchIdIn(@Param("matchIds") Collection<Integer> matchIds);
+
+    @Query("select new app.foot.repository.projection.ScorerRow(s.match.id, s.minute, s.ownGoal,"
+            + " p.id, p.name, p.guardian, t.id, t.name)"
+            + " from player_score s join s.player p join p.team t"
+            + " where s.match.id in :matchIds order by s.id")
+    List<ScorerRow> findRowsByMatchIdIn(@Param("matchIds") Collection<Integer> matchIds);
+
+    @Query("select s.player.id as playerId, count(s) as goals from player_score s"
+            + " where s.ownGoal = false group by s.player.id")
+    List<PlayerGoals> countGoalsByPlayer();
+
+    @Query(value = "select p.id as playerId, p.\"name\" as playerName, p.guardian as guardian, t.\"name\" as teamName,"
+            + " s.goals as goals, s.own_goals as ownGoals, s.matches_scored_in as matchesScoredIn,"
+            + " m.matches_played as matchesPlayed,"
+            + " s.from_0 as goalsFrom0, s.from_15 as goalsFrom15, s.from_30 as goalsFrom30,"
+            + " s.from_45 as goalsFrom45, s.from_60 as goalsFrom60, s.from_75 as goalsFrom75"
+            + " from player p join team t on t.id = p.id_team"
+            + " cross join lateral (select"
+            + "   count(*) filter (where not s.own_goal) as goals,"
+            + "   count(*) filter (where s.own_goal) as own_goals,"
+            + "   count(distinct s.id_match) filter (where not s.own_goal) as matches_scored_in,"
+            + "   count(*) filter (where not s.own_goal and s.\"minute\" < 15) as from_0,"
+            + "   count(*) filter (where not s.own_goal and s.\"minute\" >= 15 and s.\"minute\" < 30) as from_15,"
+            + "   count(*) filter (where not s.own_goal and s.\"minute\" >= 30 and s.\"minute\" < 45) as from_30,"
+            + "   count(*) filter (where not s.own_goal and s.\"minute\" >= 45 and s.\"minute\" < 60) as from_45,"
+            + "   count(*) filter (where not s.own_goal and s.\"minute\" >= 60 and s.\"minute\" < 75) as from_60,"
+            + "   count(*) filter (where not s.own_goal and s.\"minute\" >= 75) as from_75"
+            + "   from player_score s where s.id_player = p.id) s"
+            + " cross join lateral (select count(*) as matches_played from match m"
+            + "   where (m.id_team_A = p.id_team or m.id_team_B = p.id_team) and m.\"datetime\" <= now()) m"
+            + " where p.id in (:playerIds)", nativeQuery = true)
+    List<PlayerStatsRow> findStatsByPlayerIdIn(@Param("playerIds") Collection<Integer> playerIds);
 }
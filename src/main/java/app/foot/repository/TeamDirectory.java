@@ -0,0 +1,73 @@
+package app.foot.repository;
+
+import app.foot.repository.entity.TeamEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Teams must be saved through it, so that it is reloaded once they are committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamDirectory {
+    private final TeamRepository repository;
+    private volatile Teams teams;
+
+    public Optional<TeamEntity> findByName(String name) {
+        return Optional.ofNullable(getTeams().byName().get(name));
+    }
+
+    public Optional<TeamEntity> findById(Integer id) {
+        return Optional.ofNullable(getTeams().byId().get(id));
+    }
+
+    public Collection<TeamEntity> findAll() {
+        return getTeams().byId().values();
+    }
+
+    public TeamEntity save(TeamEntity team) {
+        TeamEntity saved = repository.save(team);
+        teams = null;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    teams = null;
+                }
+            });
+        }
+        return saved;
+    }
+
+    private Teams getTeams() {
+        Teams current = teams;
+        if (current == null) {
+            current = Teams.of(repository.findAll());
+            teams = current;
+        }
+        return current;
+    }
+
+    // a name shared by several teams resolves to the one with the lowest id
+    private record Teams(Map<String, TeamEntity> byName, Map<Integer, TeamEntity> byId) {
+        static Teams of(List<TeamEntity> teams) {
+            return new Teams(
+                    Collections.unmodifiableMap(teams.stream()
+                            .filter(team -> team.getName() != null)
+                            .collect(Collectors.toMap(TeamEntity::getName, Function.identity(),
+                                    (first, second) -> first.getId() <= second.getId() ? first : second))),
+                    Collections.unmodifiableMap(teams.stream()
+                            .collect(Collectors.toMap(TeamEntity::getId, Function.identity()))));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package app.foot.repository.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity(name = "goal_submission")
+@Data
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GoalSubmissionEntity {
+    @Id
+    @Column(name = "idempotency_key")
+    private String idempotencyKey;
+    @Column(name = "id_match")
+    private Integer matchId;
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private Instant createdAt;
+}
@@ -12,7 +12,19 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@NamedEntityGraph(name = MatchEntity.WITH_SCORERS,
+        attributeNodes = {
+                @NamedAttributeNode("teamA"),
+                @NamedAttributeNode("teamB"),
+                @NamedAttributeNode(value = "scorers", subgraph = "scorers")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "scorers", attributeNodes = @NamedAttributeNode(value = "player", subgraph = "player")),
+                @NamedSubgraph(name = "player", attributeNodes = @NamedAttributeNode("team"))
+        })
 public class MatchEntity {
+    public static final String WITH_SCORERS = "match.withScorers";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
@@ -27,4 +39,12 @@ public class MatchEntity {
     private String stadium;
     @JoinColumn(name = "\"datetime\"")
     private Instant datetime;
+    // Maintained by MatchRepository.addScores only, so that concurrent goal insertions cannot overwrite each other
+    @Column(name = "score_a", insertable = false, updatable = false)
+    private int scoreA;
+    @Column(name = "score_b", insertable = false, updatable = false)
+    private int scoreB;
+    // Taken from match_version_seq on insert, on each MatchRepository.addScores and when scorers are updated
+    @Column(insertable = false, updatable = false)
+    private long version;
 }
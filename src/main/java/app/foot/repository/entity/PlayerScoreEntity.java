@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class PlayerScoreEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_score_id")
+    @SequenceGenerator(name = "player_score_id", sequenceName = "player_score_id_seq", allocationSize = 50)
     private Integer id;
     @JsonIgnore
     @ManyToOne
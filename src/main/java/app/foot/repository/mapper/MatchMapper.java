@@ -6,10 +6,14 @@ import app.foot.model.TeamMatch;
 import app.foot.repository.entity.MatchEntity;
 import app.foot.repository.entity.PlayerScoreEntity;
 import app.foot.repository.entity.TeamEntity;
+import app.foot.repository.projection.MatchRow;
+import app.foot.repository.projection.ScorerRow;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Component
 @AllArgsConstructor
@@ -18,37 +22,105 @@ public class MatchMapper {
     private final PlayerMapper playerMapper;
 
     public Match toDomain(MatchEntity matchEntity) {
-        List<PlayerScorer> teamBScorers = getTeamScorers(matchEntity, matchEntity.getTeamB());
-        List<PlayerScorer> teamAScorers = getTeamScorers(matchEntity, matchEntity.getTeamA());
+        return toDomain(matchEntity, matchEntity.getScorers());
+    }
+
+    public Match toDomain(MatchEntity matchEntity, List<PlayerScoreEntity> scorerEntities) {
+        List<PlayerScorer> teamAScorers = new ArrayList<>();
+        List<PlayerScorer> teamBScorers = new ArrayList<>();
+        for (PlayerScoreEntity scorerEntity : scorerEntities) {
+            boolean isTeamAGoal = isGoalFor(matchEntity.getTeamA(), scorerEntity);
+            boolean isTeamBGoal = isGoalFor(matchEntity.getTeamB(), scorerEntity);
+            if (!isTeamAGoal && !isTeamBGoal) {
+                continue;
+            }
+            PlayerScorer scorer = playerMapper.toDomain(scorerEntity);
+            if (isTeamAGoal) {
+                teamAScorers.add(scorer);
+            }
+            if (isTeamBGoal) {
+                teamBScorers.add(scorer);
+            }
+        }
+        return toDomain(matchEntity, teamAScorers, teamBScorers);
+    }
+
+    public Match toDomainWithoutScorers(MatchEntity matchEntity) {
+        return toDomain(matchEntity, null, null);
+    }
+
+    public Match toDomain(MatchRow row, List<ScorerRow> scorerRows) {
+        List<PlayerScorer> teamAScorers = new ArrayList<>();
+        List<PlayerScorer> teamBScorers = new ArrayList<>();
+        for (ScorerRow scorerRow : scorerRows) {
+            boolean isTeamAGoal = isGoalFor(row.getTeamAId(), scorerRow);
+            boolean isTeamBGoal = isGoalFor(row.getTeamBId(), scorerRow);
+            if (!isTeamAGoal && !isTeamBGoal) {
+                continue;
+            }
+            PlayerScorer scorer = playerMapper.toDomain(scorerRow);
+            if (isTeamAGoal) {
+                teamAScorers.add(scorer);
+            }
+            if (isTeamBGoal) {
+                teamBScorers.add(scorer);
+            }
+        }
+        return toDomain(row, teamAScorers, teamBScorers);
+    }
+
+    public Match toDomainWithoutScorers(MatchRow row) {
+        return toDomain(row, null, null);
+    }
+
+    public static boolean isGoalFor(TeamEntity team, PlayerScoreEntity scorer) {
+        return isGoalFor(team.getId(), scorer.getPlayer().getTeam().getId(), scorer.isOwnGoal());
+    }
+
+    private static boolean isGoalFor(Integer teamId, ScorerRow scorer) {
+        return isGoalFor(teamId, scorer.getPlayerTeamId(), scorer.isOwnGoal());
+    }
+
+    // teams are told apart by id, as their names may change or be shared
+    public static boolean isGoalFor(Integer teamId, Integer scorerTeamId, boolean ownGoal) {
+        return Objects.equals(scorerTeamId, teamId) != ownGoal;
+    }
+
+    private Match toDomain(MatchEntity matchEntity, List<PlayerScorer> teamAScorers, List<PlayerScorer> teamBScorers) {
         return Match.builder()
                 .id(matchEntity.getId())
                 .datetime(matchEntity.getDatetime())
                 .stadium(matchEntity.getStadium())
+                .version(matchEntity.getVersion())
                 .teamA(TeamMatch.builder()
                         .team(teamMapper.toDomain(matchEntity.getTeamA()))
                         .scorers(teamAScorers)
-                        .score(teamAScorers.size())
+                        .score(matchEntity.getScoreA())
                         .build())
                 .teamB(TeamMatch.builder()
                         .team(teamMapper.toDomain(matchEntity.getTeamB()))
                         .scorers(teamBScorers)
-                        .score(teamBScorers.size())
+                        .score(matchEntity.getScoreB())
                         .build())
                 .build();
     }
 
-    private List<PlayerScorer> getTeamScorers(MatchEntity matchEntity, TeamEntity team) {
-        return matchEntity.getScorers().stream()
-                .filter(scorer -> isGoalAgainstOpponent(team, scorer) || isOpponentOwnGoal(team, scorer))
-                .map(playerMapper::toDomain)
-                .toList();
-    }
-
-    private static boolean isOpponentOwnGoal(TeamEntity team, PlayerScoreEntity scorer) {
-        return !scorer.getPlayer().getTeam().equals(team) && scorer.isOwnGoal();
-    }
-
-    private static boolean isGoalAgainstOpponent(TeamEntity team, PlayerScoreEntity scorer) {
-        return scorer.getPlayer().getTeam().equals(team) && !scorer.isOwnGoal();
+    private Match toDomain(MatchRow row, List<PlayerScorer> teamAScorers, List<PlayerScorer> teamBScorers) {
+        return Match.builder()
+                .id(row.getId())
+                .datetime(row.getDatetime())
+                .stadium(row.getStadium())
+                .version(row.getVersion())
+                .teamA(TeamMatch.builder()
+                        .team(teamMapper.toDomain(row.getTeamAId(), row.getTeamAName()))
+                        .scorers(teamAScorers)
+                        .score(row.getScoreA())
+                        .build())
+                .teamB(TeamMatch.builder()
+                        .team(teamMapper.toDomain(row.getTeamBId(), row.getTeamBName()))
+                        .scorers(teamBScorers)
+                        .score(row.getScoreB())
+                        .build())
+                .build();
     }
 }
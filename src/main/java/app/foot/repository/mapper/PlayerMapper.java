@@ -1,21 +1,26 @@
 package app.foot.repository.mapper;
 
+import app.foot.model.GoalMinuteRange;
 import app.foot.model.Player;
 import app.foot.model.PlayerScorer;
-import app.foot.repository.MatchRepository;
-import app.foot.repository.PlayerRepository;
-import app.foot.repository.TeamRepository;
+import app.foot.model.PlayerStats;
+import app.foot.exception.BadRequestException;
+import app.foot.repository.TeamDirectory;
+import app.foot.repository.entity.MatchEntity;
 import app.foot.repository.entity.PlayerEntity;
 import app.foot.repository.entity.PlayerScoreEntity;
+import app.foot.repository.projection.PlayerRow;
+import app.foot.repository.projection.PlayerStatsRow;
+import app.foot.repository.projection.ScorerRow;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @AllArgsConstructor
 public class PlayerMapper {
-    private final MatchRepository matchRepository;
-    private final PlayerRepository playerRepository;
-    private final TeamRepository teamRepository;
+    private final TeamDirectory teamDirectory;
 
     public Player toDomain(PlayerEntity entity) {
         return Player.builder()
@@ -26,6 +31,53 @@ public class PlayerMapper {
                 .build();
     }
 
+    public Player toDomain(PlayerRow row) {
+        return Player.builder()
+                .id(row.getId())
+                .name(row.getName())
+                .isGuardian(row.isGuardian())
+                .teamName(row.getTeamName())
+                .build();
+    }
+
+    public PlayerStats toDomain(PlayerStatsRow row) {
+        int goals = (int) row.getGoals();
+        int matchesPlayed = (int) row.getMatchesPlayed();
+        return PlayerStats.builder()
+                .player(Player.builder()
+                        .id(row.getPlayerId())
+                        .name(row.getPlayerName())
+                        .isGuardian(row.getGuardian())
+                        .teamName(row.getTeamName())
+                        .build())
+                .goals(goals)
+                .ownGoals((int) row.getOwnGoals())
+                .matchesScoredIn((int) row.getMatchesScoredIn())
+                .matchesPlayed(matchesPlayed)
+                .goalsPerMatch(matchesPlayed == 0 ? 0 : (double) goals / matchesPlayed)
+                .goalsByMinute(List.of(
+                        minuteRange(0, 14, row.getGoalsFrom0()),
+                        minuteRange(15, 29, row.getGoalsFrom15()),
+                        minuteRange(30, 44, row.getGoalsFrom30()),
+                        minuteRange(45, 59, row.getGoalsFrom45()),
+                        minuteRange(60, 74, row.getGoalsFrom60()),
+                        minuteRange(75, 90, row.getGoalsFrom75())))
+                .build();
+    }
+
+    public PlayerScorer toDomain(ScorerRow row) {
+        return PlayerScorer.builder()
+                .player(Player.builder()
+                        .id(row.getPlayerId())
+                        .name(row.getPlayerName())
+                        .isGuardian(row.isGuardian())
+                        .teamName(row.getPlayerTeamName())
+                        .build())
+                .minute(row.getMinute())
+                .isOwnGoal(row.isOwnGoal())
+                .build();
+    }
+
     public PlayerScorer toDomain(PlayerScoreEntity entity) {
         return PlayerScorer.builder()
                 .player(toDomain(entity.getPlayer()))
@@ -34,10 +86,10 @@ public class PlayerMapper {
                 .build();
     }
 
-    public PlayerScoreEntity toEntity(int matchId, PlayerScorer scorer) {
+    public PlayerScoreEntity toEntity(MatchEntity match, PlayerEntity player, PlayerScorer scorer) {
         return PlayerScoreEntity.builder()
-                .player(playerRepository.findById(scorer.getPlayer().getId()).get())
-                .match(matchRepository.findById(matchId).get())
+                .player(player)
+                .match(match)
                 .ownGoal(scorer.getIsOwnGoal())
                 .minute(scorer.getMinute())
                 .build();
@@ -47,8 +99,17 @@ public class PlayerMapper {
         return PlayerEntity.builder()
                 .id(domain.getId())
                 .name(domain.getName())
-                .team(teamRepository.findByName(domain.getTeamName()))
+                .team(teamDirectory.findByName(domain.getTeamName())
+                        .orElseThrow(() -> new BadRequestException("Team " + domain.getTeamName() + " does not exist.")))
                 .guardian(domain.getIsGuardian())
                 .build();
     }
+
+    private static GoalMinuteRange minuteRange(int fromMinute, int toMinute, long goals) {
+        return GoalMinuteRange.builder()
+                .fromMinute(fromMinute)
+                .toMinute(toMinute)
+                .goals((int) goals)
+                .build();
+    }
 }
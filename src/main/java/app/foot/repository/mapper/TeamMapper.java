@@ -12,4 +12,11 @@ public class TeamMapper {
                 .name(entity.getName())
                 .build();
     }
+
+    public Team toDomain(Integer id, String name) {
+        return Team.builder()
+                .id(id)
+                .name(name)
+                .build();
+    }
 }
@@ -0,0 +1,13 @@
+package app.foot.repository.projection;
+
+public interface GoalScorerCheck {
+    int getTeamAId();
+
+    int getTeamBId();
+
+    Integer getPlayerId();
+
+    Boolean getGuardian();
+
+    Integer getPlayerTeamId();
+}
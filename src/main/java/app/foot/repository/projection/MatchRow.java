@@ -0,0 +1,19 @@
+package app.foot.repository.projection;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class MatchRow {
+    Integer id;
+    Instant datetime;
+    String stadium;
+    long version;
+    int scoreA;
+    int scoreB;
+    Integer teamAId;
+    String teamAName;
+    Integer teamBId;
+    String teamBName;
+}
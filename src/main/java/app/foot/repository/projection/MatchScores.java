@@ -0,0 +1,9 @@
+package app.foot.repository.projection;
+
+public interface MatchScores {
+    int getScoreA();
+
+    int getScoreB();
+
+    long getVersion();
+}
@@ -0,0 +1,7 @@
+package app.foot.repository.projection;
+
+public interface MatchVersion {
+    Integer getId();
+
+    long getVersion();
+}
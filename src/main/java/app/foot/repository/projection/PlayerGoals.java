@@ -0,0 +1,7 @@
+package app.foot.repository.projection;
+
+public interface PlayerGoals {
+    Integer getPlayerId();
+
+    long getGoals();
+}
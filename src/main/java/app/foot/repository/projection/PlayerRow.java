@@ -0,0 +1,11 @@
+package app.foot.repository.projection;
+
+import lombok.Value;
+
+@Value
+public class PlayerRow {
+    Integer id;
+    String name;
+    boolean guardian;
+    String teamName;
+}
@@ -0,0 +1,31 @@
+package app.foot.repository.projection;
+
+public interface PlayerStatsRow {
+    Integer getPlayerId();
+
+    String getPlayerName();
+
+    boolean getGuardian();
+
+    String getTeamName();
+
+    long getGoals();
+
+    long getOwnGoals();
+
+    long getMatchesScoredIn();
+
+    long getMatchesPlayed();
+
+    long getGoalsFrom0();
+
+    long getGoalsFrom15();
+
+    long getGoalsFrom30();
+
+    long getGoalsFrom45();
+
+    long getGoalsFrom60();
+
+    long getGoalsFrom75();
+}
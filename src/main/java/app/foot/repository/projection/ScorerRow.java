@@ -0,0 +1,15 @@
+package app.foot.repository.projection;
+
+import lombok.Value;
+
+@Value
+public class ScorerRow {
+    Integer matchId;
+    Integer minute;
+    boolean ownGoal;
+    Integer playerId;
+    String playerName;
+    boolean guardian;
+    Integer playerTeamId;
+    String playerTeamName;
+}
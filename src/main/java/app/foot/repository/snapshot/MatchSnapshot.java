@@ -0,0 +1,183 @@
+package app.foot.repository.snapshot;
+
+import app.foot.model.Match;
+import app.foot.model.Player;
+import app.foot.model.PlayerScorer;
+import app.foot.model.Team;
+import app.foot.model.TeamMatch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+/**
+ * Read-only view of a snapshot file written by {@link MatchSnapshotWriter}, mapped in memory rather than loaded:
+ * only the header is read on opening, and records are decoded on each read.
+ * <p>
+ * All numbers are big-endian, sections follow each other in this order:
+ * <ul>
+ *   <li>header: magic, format version, match, team, player and goal counts, the offset of each section,
+ *   then the version of all matches the snapshot was built at</li>
+ *   <li>matches, sorted by id: id, datetime seconds and nanos, stadium, team A and B indexes, scores, version,
+ *   index of the first goal, goal counts of team A then B</li>
+ *   <li>teams: id, name</li>
+ *   <li>players: id, name, team name, guardian flag</li>
+ *   <li>goals, those of team A then those of team B for each match: player index, minute, own goal flag</li>
+ *   <li>strings, referenced by their offset in the section: UTF-8 length then bytes</li>
+ * </ul>
+ */
+public class MatchSnapshot {
+    static final int MAGIC = 0x464f4f54;
+    static final int FORMAT_VERSION = 2;
+    static final int HEADER_SIZE = 56;
+    static final int MATCH_SIZE = 56;
+    static final int TEAM_SIZE = 8;
+    static final int PLAYER_SIZE = 16;
+    static final int GOAL_SIZE = 12;
+    static final int NO_STRING = -1;
+    static final int NO_MINUTE = Integer.MIN_VALUE;
+
+    // only read through absolute methods, which are safe to call concurrently
+    private final ByteBuffer buffer;
+    private final int matchCount;
+    private final int matchesOffset;
+    private final int teamsOffset;
+    private final int playersOffset;
+    private final int goalsOffset;
+    private final int stringsOffset;
+    private final long matchesVersion;
+
+    MatchSnapshot(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a match snapshot.");
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported match snapshot format " + buffer.getInt(4) + ".");
+        }
+        this.matchCount = buffer.getInt(8);
+        this.matchesOffset = buffer.getInt(24);
+        this.teamsOffset = buffer.getInt(28);
+        this.playersOffset = buffer.getInt(32);
+        this.goalsOffset = buffer.getInt(36);
+        this.stringsOffset = buffer.getInt(40);
+        this.matchesVersion = buffer.getLong(48);
+    }
+
+    public static MatchSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new MatchSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int size() {
+        return matchCount;
+    }
+
+    public long getMatchesVersion() {
+        return matchesVersion;
+    }
+
+    public Optional<Match> findById(int id) {
+        return findById(id, playerId -> null);
+    }
+
+    public Optional<Match> findById(int id, IntFunction<Player> updatedPlayers) {
+        int index = indexOf(id);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        int record = matchesOffset + index * MATCH_SIZE;
+        int firstGoal = buffer.getInt(record + 44);
+        int goalCountA = buffer.getInt(record + 48);
+        int goalCountB = buffer.getInt(record + 52);
+        return Optional.of(Match.builder()
+                .id(id)
+                .datetime(Instant.ofEpochSecond(buffer.getLong(record + 4), buffer.getInt(record + 12)))
+                .stadium(string(buffer.getInt(record + 16)))
+                .version(buffer.getLong(record + 36))
+                .teamA(TeamMatch.builder()
+                        .team(team(buffer.getInt(record + 20)))
+                        .score(buffer.getInt(record + 28))
+                        .scorers(goals(firstGoal, goalCountA, updatedPlayers))
+                        .build())
+                .teamB(TeamMatch.builder()
+                        .team(team(buffer.getInt(record + 24)))
+                        .score(buffer.getInt(record + 32))
+                        .scorers(goals(firstGoal + goalCountA, goalCountB, updatedPlayers))
+                        .build())
+                .build());
+    }
+
+    private int indexOf(int id) {
+        int low = 0;
+        int high = matchCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleId = buffer.getInt(matchesOffset + middle * MATCH_SIZE);
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private Team team(int index) {
+        int record = teamsOffset + index * TEAM_SIZE;
+        return Team.builder()
+                .id(buffer.getInt(record))
+                .name(string(buffer.getInt(record + 4)))
+                .build();
+    }
+
+    private List<PlayerScorer> goals(int first, int count, IntFunction<Player> updatedPlayers) {
+        List<PlayerScorer> goals = new ArrayList<>(count);
+        for (int i = first; i < first + count; i++) {
+            int record = goalsOffset + i * GOAL_SIZE;
+            int minute = buffer.getInt(record + 4);
+            goals.add(PlayerScorer.builder()
+                    .player(player(buffer.getInt(record), updatedPlayers))
+                    .minute(minute == NO_MINUTE ? null : minute)
+                    .isOwnGoal(buffer.getInt(record + 8) == 1)
+                    .build());
+        }
+        return goals;
+    }
+
+    private Player player(int index, IntFunction<Player> updatedPlayers) {
+        int record = playersOffset + index * PLAYER_SIZE;
+        int id = buffer.getInt(record);
+        Player updated = updatedPlayers.apply(id);
+        if (updated != null) {
+            return updated;
+        }
+        return Player.builder()
+                .id(id)
+                .name(string(buffer.getInt(record + 4)))
+                .teamName(string(buffer.getInt(record + 8)))
+                .isGuardian(buffer.getInt(record + 12) == 1)
+                .build();
+    }
+
+    private String string(int ref) {
+        if (ref == NO_STRING) {
+            return null;
+        }
+        int length = buffer.getInt(stringsOffset + ref);
+        byte[] bytes = new byte[length];
+        buffer.get(stringsOffset + ref + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,214 @@
+package app.foot.repository.snapshot;
+
+import app.foot.model.Match;
+import app.foot.model.Player;
+import app.foot.model.PlayerScorer;
+import app.foot.model.Team;
+import app.foot.model.TeamMatch;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static app.foot.repository.snapshot.MatchSnapshot.*;
+
+/**
+ * Writes matches, given by increasing id, into a snapshot file read by {@link MatchSnapshot}.
+ * matchesVersion is the highest version of the matches, read before they are exported.
+ */
+public class MatchSnapshotWriter implements Closeable {
+    private final Path target;
+    private final long matchesVersion;
+    private final Path matchesPart;
+    private final Path goalsPart;
+    private final DataOutputStream matches;
+    private final DataOutputStream goals;
+    private final Map<Integer, Integer> teamIndexes = new HashMap<>();
+    private final List<Team> teams = new ArrayList<>();
+    private final Map<Integer, Integer> playerIndexes = new HashMap<>();
+    private final List<Player> players = new ArrayList<>();
+    private final Map<String, Integer> stringRefs = new HashMap<>();
+    private final ByteArrayOutputStream strings = new ByteArrayOutputStream();
+    private int matchCount;
+    private int goalCount;
+    private Integer lastMatchId;
+
+    public MatchSnapshotWriter(Path target, long matchesVersion) throws IOException {
+        this.target = target.toAbsolutePath();
+        this.matchesVersion = matchesVersion;
+        Files.createDirectories(this.target.getParent());
+        this.matchesPart = Files.createTempFile(this.target.getParent(), "matches", ".part");
+        this.goalsPart = Files.createTempFile(this.target.getParent(), "goals", ".part");
+        this.matches = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(matchesPart)));
+        this.goals = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(goalsPart)));
+    }
+
+    public void write(Match match) throws IOException {
+        if (lastMatchId != null && match.getId() <= lastMatchId) {
+            throw new IllegalArgumentException("Matches must be written by increasing id, got Match#"
+                    + match.getId() + " after Match#" + lastMatchId + ".");
+        }
+        lastMatchId = match.getId();
+        List<PlayerScorer> scorersA = scorers(match.getTeamA());
+        List<PlayerScorer> scorersB = scorers(match.getTeamB());
+
+        matches.writeInt(match.getId());
+        matches.writeLong(match.getDatetime().getEpochSecond());
+        matches.writeInt(match.getDatetime().getNano());
+        matches.writeInt(stringRef(match.getStadium()));
+        matches.writeInt(teamIndex(match.getTeamA().getTeam()));
+        matches.writeInt(teamIndex(match.getTeamB().getTeam()));
+        matches.writeInt(match.getTeamA().getScore());
+        matches.writeInt(match.getTeamB().getScore());
+        matches.writeLong(match.getVersion());
+        matches.writeInt(goalCount);
+        matches.writeInt(scorersA.size());
+        matches.writeInt(scorersB.size());
+        matchCount++;
+
+        for (PlayerScorer scorer : scorersA) {
+            writeGoal(scorer);
+        }
+        for (PlayerScorer scorer : scorersB) {
+            writeGoal(scorer);
+        }
+    }
+
+    public void finish() throws IOException {
+        matches.close();
+        goals.close();
+        byte[] teamRecords = teamRecords();
+        byte[] playerRecords = playerRecords();
+        long matchesOffset = HEADER_SIZE;
+        long teamsOffset = matchesOffset + (long) matchCount * MATCH_SIZE;
+        long playersOffset = teamsOffset + teamRecords.length;
+        long goalsOffset = playersOffset + playerRecords.length;
+        long stringsOffset = goalsOffset + (long) goalCount * GOAL_SIZE;
+        if (stringsOffset + strings.size() > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot of " + matchCount + " matches does not fit in 2 GiB.");
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(matchCount)
+                .putInt(teams.size())
+                .putInt(players.size())
+                .putInt(goalCount)
+                .putInt((int) matchesOffset)
+                .putInt((int) teamsOffset)
+                .putInt((int) playersOffset)
+                .putInt((int) goalsOffset)
+                .putInt((int) stringsOffset)
+                .putInt(0)
+                .putLong(matchesVersion)
+                .flip();
+        Path written = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(written, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(out, header.limit(HEADER_SIZE));
+            append(out, matchesPart);
+            writeFully(out, ByteBuffer.wrap(teamRecords));
+            writeFully(out, ByteBuffer.wrap(playerRecords));
+            append(out, goalsPart);
+            writeFully(out, ByteBuffer.wrap(strings.toByteArray()));
+            out.force(true);
+        }
+        Files.move(written, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        matches.close();
+        goals.close();
+        Files.deleteIfExists(matchesPart);
+        Files.deleteIfExists(goalsPart);
+    }
+
+    private static List<PlayerScorer> scorers(TeamMatch teamMatch) {
+        return teamMatch.getScorers() == null ? List.of() : teamMatch.getScorers();
+    }
+
+    private void writeGoal(PlayerScorer scorer) throws IOException {
+        goals.writeInt(playerIndex(scorer.getPlayer()));
+        goals.writeInt(scorer.getMinute() == null ? NO_MINUTE : scorer.getMinute());
+        goals.writeInt(Boolean.TRUE.equals(scorer.getIsOwnGoal()) ? 1 : 0);
+        goalCount++;
+    }
+
+    private int teamIndex(Team team) {
+        return teamIndexes.computeIfAbsent(team.getId(), id -> {
+            teams.add(team);
+            return teams.size() - 1;
+        });
+    }
+
+    private int playerIndex(Player player) {
+        return playerIndexes.computeIfAbsent(player.getId(), id -> {
+            players.add(player);
+            return players.size() - 1;
+        });
+    }
+
+    private int stringRef(String value) {
+        if (value == null) {
+            return NO_STRING;
+        }
+        return stringRefs.computeIfAbsent(value, key -> {
+            int ref = strings.size();
+            byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+            strings.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+            strings.writeBytes(bytes);
+            return ref;
+        });
+    }
+
+    private byte[] teamRecords() {
+        ByteBuffer records = ByteBuffer.allocate(teams.size() * TEAM_SIZE);
+        for (Team team : teams) {
+            records.putInt(team.getId())
+                    .putInt(stringRef(team.getName()));
+        }
+        return records.array();
+    }
+
+    private byte[] playerRecords() {
+        ByteBuffer records = ByteBuffer.allocate(players.size() * PLAYER_SIZE);
+        for (Player player : players) {
+            records.putInt(player.getId())
+                    .putInt(stringRef(player.getName()))
+                    .putInt(stringRef(player.getTeamName()))
+                    .putInt(Boolean.TRUE.equals(player.getIsGuardian()) ? 1 : 0);
+        }
+        return records.array();
+    }
+
+    private static void append(FileChannel out, Path part) throws IOException {
+        try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+            long position = 0;
+            long size = in.size();
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package app.foot.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public class BoundedCache<K, V> implements MeterBinder {
+    private final String name;
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    /*
+     * Incremented on each invalidation: values loaded while an invalidation happened
+     * may already be stale, so they are returned but not cached.
+     */
+    private long invalidationCount;
+
+    public BoundedCache(String name, int maxSize) {
+        this(name, maxSize, null);
+    }
+
+    public BoundedCache(String name, int maxSize, Duration ttl) {
+        this.name = name;
+        this.ttlNanos = ttl == null ? Long.MAX_VALUE : ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > maxSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        long invalidationCountBeforeLoad;
+        synchronized (this) {
+            Entry<V> cached = entries.get(key);
+            if (cached != null && System.nanoTime() - cached.loadedAt() < ttlNanos) {
+                hitCount++;
+                return cached.value();
+            }
+            missCount++;
+            invalidationCountBeforeLoad = invalidationCount;
+        }
+        long loadedAt = System.nanoTime();
+        V loaded = loader.apply(key);
+        synchronized (this) {
+            if (invalidationCount == invalidationCountBeforeLoad) {
+                entries.put(key, new Entry<>(loaded, loadedAt));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Values of the keys found, the missing ones being loaded all at once.
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<List<K>, Map<K, V>> loader) {
+        Map<K, V> found = new HashMap<>();
+        List<K> missing = new ArrayList<>();
+        long invalidationCountBeforeLoad;
+        synchronized (this) {
+            long now = System.nanoTime();
+            for (K key : keys) {
+                Entry<V> cached = entries.get(key);
+                if (cached != null && now - cached.loadedAt() < ttlNanos) {
+                    hitCount++;
+                    found.put(key, cached.value());
+                } else {
+                    missCount++;
+                    missing.add(key);
+                }
+            }
+            invalidationCountBeforeLoad = invalidationCount;
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+        long loadedAt = System.nanoTime();
+        Map<K, V> loaded = loader.apply(missing);
+        synchronized (this) {
+            if (invalidationCount == invalidationCountBeforeLoad) {
+                loaded.forEach((key, value) -> entries.put(key, new Entry<>(value, loadedAt)));
+            }
+        }
+        found.putAll(loaded);
+        return found;
+    }
+
+    public synchronized void invalidate(K key) {
+        invalidationCount++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll(Collection<K> keys) {
+        invalidationCount++;
+        keys.forEach(entries::remove);
+    }
+
+    public synchronized void invalidateIf(Predicate<V> stale) {
+        invalidationCount++;
+        entries.values().removeIf(entry -> stale.test(entry.value()));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", this, BoundedCache::getHitCount)
+                .tags("cache", name, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", this, BoundedCache::getMissCount)
+                .tags("cache", name, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", this, BoundedCache::getEvictionCount)
+                .tags("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", this, BoundedCache::size)
+                .tags("cache", name)
+                .register(registry);
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
@@ -0,0 +1,184 @@
+package app.foot.service;
+
+import app.foot.model.GoalTicket;
+import app.foot.model.PlayerScorer;
+import app.foot.repository.MatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+public class GoalIngestionService implements SmartLifecycle {
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final PlayerScoreService scoreService;
+    private final MatchRepository matchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Submission> queue;
+    private final int groupSize;
+    private final long groupDelayNanos;
+    // guarded by itself
+    private final Map<String, GoalTicket> tickets;
+    private volatile boolean running;
+    private Thread writer;
+
+    public GoalIngestionService(PlayerScoreService scoreService,
+                                MatchRepository matchRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${foot.ingestion.queue-capacity}") int queueCapacity,
+                                @Value("${foot.ingestion.group-size}") int groupSize,
+                                @Value("${foot.ingestion.group-delay-ms}") long groupDelayMillis,
+                                @Value("${foot.ingestion.max-tickets}") int maxTickets) {
+        this.scoreService = scoreService;
+        this.matchRepository = matchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.groupSize = groupSize;
+        this.groupDelayNanos = TimeUnit.MILLISECONDS.toNanos(groupDelayMillis);
+        this.tickets = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GoalTicket> eldest) {
+                return size() > maxTickets;
+            }
+        };
+    }
+
+    /**
+     * Returns no ticket when the queue is full or the writer is stopped.
+     */
+    public Optional<GoalTicket> submit(int matchId, List<PlayerScorer> scorers) {
+        if (!matchRepository.existsById(matchId)) {
+            throw new RuntimeException("Match#" + matchId + " not found.");
+        }
+        GoalTicket ticket = GoalTicket.builder()
+                .id(UUID.randomUUID().toString())
+                .matchId(matchId)
+                .status(GoalTicket.Status.PENDING)
+                .build();
+        // registered first, as the writer may complete the ticket as soon as it is queued
+        putTicket(ticket);
+        if (!running || !queue.offer(new Submission(ticket, scorers))) {
+            synchronized (tickets) {
+                tickets.remove(ticket.getId());
+            }
+            return Optional.empty();
+        }
+        return Optional.of(ticket);
+    }
+
+    public Optional<GoalTicket> getTicket(String ticketId) {
+        synchronized (tickets) {
+            return Optional.ofNullable(tickets.get(ticketId));
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        writer = new Thread(this::drain, "goal-ingestion-writer");
+        writer.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drain() {
+        List<Submission> group = new ArrayList<>(groupSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Submission first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                long deadline = System.nanoTime() + groupDelayNanos;
+                while (group.size() < groupSize) {
+                    Submission next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    group.add(next);
+                }
+                write(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Goal ingestion writer failed", e);
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    // a single invalid submission rolls the whole group back, its submissions are then written one by one
+    private void write(List<Submission> group) {
+        if (group.size() > 1) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> group.forEach(this::addGoals));
+                group.forEach(submission -> complete(submission, null));
+                return;
+            } catch (RuntimeException e) {
+                log.debug("Group of {} goal submissions rolled back, writing them one by one", group.size(), e);
+            }
+        }
+        for (Submission submission : group) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> addGoals(submission));
+                complete(submission, null);
+            } catch (RuntimeException e) {
+                complete(submission, e);
+            }
+        }
+    }
+
+    private void addGoals(Submission submission) {
+        scoreService.addGoals(submission.ticket().getMatchId(), submission.scorers());
+    }
+
+    private void complete(Submission submission, RuntimeException failure) {
+        synchronized (tickets) {
+            tickets.computeIfPresent(submission.ticket().getId(), (id, ticket) -> ticket.toBuilder()
+                    .status(failure == null ? GoalTicket.Status.COMMITTED : GoalTicket.Status.FAILED)
+                    .error(failure == null ? null : failure.getMessage())
+                    .build());
+        }
+    }
+
+    private void putTicket(GoalTicket ticket) {
+        synchronized (tickets) {
+            tickets.put(ticket.getId(), ticket);
+        }
+    }
+
+    private record Submission(GoalTicket ticket, List<PlayerScorer> scorers) {
+    }
+}
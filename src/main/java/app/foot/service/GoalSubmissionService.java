@@ -0,0 +1,105 @@
+package app.foot.service;
+
+import app.foot.exception.BadRequestException;
+import app.foot.model.Match;
+import app.foot.model.PlayerScorer;
+import app.foot.repository.GoalSubmissionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Goal submissions identified by an idempotency key are only written once,
+ * a replay arriving while the first submission is written waits for it.
+ */
+@Service
+public class GoalSubmissionService {
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final MatchService matchService;
+    private final GoalSubmissionRepository repository;
+    private final long ttlSeconds;
+    // guarded by itself, in insertion order
+    private final Map<String, Submission> submissions;
+
+    public GoalSubmissionService(MatchService matchService,
+                                 GoalSubmissionRepository repository,
+                                 @Value("${foot.idempotency.ttl-seconds}") long ttlSeconds,
+                                 @Value("${foot.idempotency.max-size}") int maxSize) {
+        this.matchService = matchService;
+        this.repository = repository;
+        this.ttlSeconds = ttlSeconds;
+        this.submissions = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Submission> eldest) {
+                return size() > maxSize || eldest.getValue().isExpired();
+            }
+        };
+    }
+
+    public Match addGoals(int matchId, List<PlayerScorer> scorers, String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("Idempotency key must be 1 to " + MAX_KEY_LENGTH + " characters long.");
+        }
+        Submission submission = new Submission(matchId, new CompletableFuture<>(),
+                System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds));
+        Submission previous;
+        synchronized (submissions) {
+            previous = submissions.get(idempotencyKey);
+            if (previous == null || previous.isExpired()) {
+                submissions.remove(idempotencyKey);
+                submissions.put(idempotencyKey, submission);
+                previous = null;
+            }
+        }
+        if (previous != null) {
+            return previous.await(matchId, idempotencyKey);
+        }
+
+        try {
+            Match match = matchService.addGoals(matchId, scorers, idempotencyKey);
+            submission.response().complete(match);
+            return match;
+        } catch (RuntimeException e) {
+            // nothing was written: the submission can be sent again
+            synchronized (submissions) {
+                submissions.remove(idempotencyKey, submission);
+            }
+            submission.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${foot.idempotency.purge-interval}")
+    public void purgeExpiredKeys() {
+        repository.deleteOlderThan(ttlSeconds);
+    }
+
+    private record Submission(int matchId, CompletableFuture<Match> response, long expiresAt) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+
+        Match await(int replayedMatchId, String idempotencyKey) {
+            if (replayedMatchId != matchId) {
+                throw new BadRequestException(
+                        "Idempotency key " + idempotencyKey + " was already used for Match#" + matchId + ".");
+            }
+            try {
+                return response.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package app.foot.service;
+
+import app.foot.model.Match;
+import app.foot.model.Player;
+import app.foot.model.PlayerScorer;
+import app.foot.model.TeamMatch;
+import app.foot.service.event.GoalsAddedEvent;
+import app.foot.service.event.PlayersUpdatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+public class MatchCache extends BoundedCache<Integer, Match> {
+    public MatchCache(@Value("${foot.cache.match.max-size}") int maxSize) {
+        super("match", maxSize);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalsAdded(GoalsAddedEvent event) {
+        invalidate(event.getMatchId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayersUpdated(PlayersUpdatedEvent event) {
+        Set<Integer> playerIds = event.getPlayers().stream()
+                .map(Player::getId)
+                .collect(Collectors.toSet());
+        invalidateIf(match -> Stream.of(match.getTeamA(), match.getTeamB())
+                .filter(Objects::nonNull)
+                .map(TeamMatch::getScorers)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .map(PlayerScorer::getPlayer)
+                .anyMatch(player -> playerIds.contains(player.getId())));
+    }
+}
@@ -0,0 +1,262 @@
+package app.foot.service;
+
+import app.foot.exception.BadRequestException;
+import app.foot.model.GoalEvent;
+import app.foot.model.PlayerScorer;
+import app.foot.model.Team;
+import app.foot.repository.mapper.MatchMapper;
+import app.foot.service.event.GoalsAddedEvent;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+@Service
+@Slf4j
+public class MatchEventService implements DisposableBean {
+    private final int replaySize;
+    private final int maxChannels;
+    @Getter
+    private final long streamTimeout;
+    private final Executor executor;
+    // guarded by itself, access ordered
+    private final Map<Integer, Channel> channels;
+
+    @Autowired
+    public MatchEventService(@Value("${foot.events.replay-size}") int replaySize,
+                             @Value("${foot.events.max-channels}") int maxChannels,
+                             @Value("${foot.events.timeout-ms}") long streamTimeout) {
+        this(replaySize, maxChannels, streamTimeout, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    public MatchEventService(int replaySize, int maxChannels, long streamTimeout, Executor executor) {
+        this.replaySize = replaySize;
+        this.maxChannels = maxChannels;
+        this.streamTimeout = streamTimeout;
+        this.executor = executor;
+        this.channels = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns what cancels the subscription, or nothing when every channel is subscribed to.
+     */
+    public Optional<Runnable> subscribe(int matchId, String lastEventId, Consumer<GoalEvent> listener,
+                                        Runnable onClose) {
+        Subscription subscription = new Subscription(listener, onClose,
+                lastEventId == null ? null : parseId(matchId, lastEventId));
+        Channel channel;
+        // under the lock of the channels, so that the channel cannot be evicted before it is subscribed to
+        synchronized (channels) {
+            channel = getChannel(matchId);
+            if (channel == null) {
+                return Optional.empty();
+            }
+            channel.subscribe(subscription, lastEventId == null);
+        }
+        if (lastEventId != null) {
+            executor.execute(() -> channel.deliver(subscription));
+        }
+        return Optional.of(() -> channel.subscriptions.remove(subscription));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalsAdded(GoalsAddedEvent event) {
+        Channel channel;
+        synchronized (channels) {
+            channel = getChannel(event.getMatchId());
+        }
+        if (channel == null) {
+            return;
+        }
+        channel.append(toGoalEvents(event));
+        executor.execute(channel::deliver);
+    }
+
+    @Override
+    public void destroy() {
+        synchronized (channels) {
+            channels.values().forEach(Channel::close);
+            channels.clear();
+        }
+        if (executor instanceof ExecutorService executorService) {
+            executorService.close();
+        }
+    }
+
+    // the event holds the final score, the score after each goal is worked out backwards
+    private static List<GoalEvent> toGoalEvents(GoalsAddedEvent event) {
+        List<PlayerScorer> scorers = event.getScorers();
+        int scoreA = event.getScoreA();
+        int scoreB = event.getScoreB();
+        for (int i = 0; i < scorers.size(); i++) {
+            scoreA -= isGoalFor(event.getTeamA(), event, i) ? 1 : 0;
+            scoreB -= isGoalFor(event.getTeamB(), event, i) ? 1 : 0;
+        }
+        List<GoalEvent> goals = new ArrayList<>(scorers.size());
+        for (int i = 0; i < scorers.size(); i++) {
+            PlayerScorer scorer = scorers.get(i);
+            scoreA += isGoalFor(event.getTeamA(), event, i) ? 1 : 0;
+            scoreB += isGoalFor(event.getTeamB(), event, i) ? 1 : 0;
+            goals.add(GoalEvent.builder()
+                    .matchId(event.getMatchId())
+                    .version(event.getVersion())
+                    .index(i)
+                    .scorer(scorer)
+                    .scoreA(scoreA)
+                    .scoreB(scoreB)
+                    .build());
+        }
+        return goals;
+    }
+
+    private static boolean isGoalFor(Team team, GoalsAddedEvent event, int index) {
+        return MatchMapper.isGoalFor(team.getId(), event.getScorerTeamIds().get(index),
+                event.getScorers().get(index).getIsOwnGoal());
+    }
+
+    private static GoalEvent parseId(int matchId, String eventId) {
+        String[] parts = eventId.split("-");
+        try {
+            if (parts.length != 2) {
+                throw new NumberFormatException();
+            }
+            return GoalEvent.builder()
+                    .matchId(matchId)
+                    .version(Long.parseLong(parts[0]))
+                    .index(Integer.parseInt(parts[1]))
+                    .build();
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Event id " + eventId + " is not valid.");
+        }
+    }
+
+    // under the lock of the channels, the least recently used channel without subscribers makes room for a new one
+    private Channel getChannel(int matchId) {
+        Channel channel = channels.get(matchId);
+        if (channel != null) {
+            return channel;
+        }
+        if (channels.size() >= maxChannels && !evictUnsubscribedChannel()) {
+            return null;
+        }
+        channel = new Channel(replaySize);
+        channels.put(matchId, channel);
+        return channel;
+    }
+
+    private boolean evictUnsubscribedChannel() {
+        Iterator<Channel> iterator = channels.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().subscriptions.isEmpty()) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Channel {
+        // guarded by this, in event order
+        private final Deque<GoalEvent> recent = new ArrayDeque<>();
+        private final int replaySize;
+        private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+        Channel(int replaySize) {
+            this.replaySize = replaySize;
+        }
+
+        synchronized void subscribe(Subscription subscription, boolean fromLatest) {
+            if (fromLatest) {
+                subscription.lastSent = recent.peekLast();
+            }
+            subscriptions.add(subscription);
+        }
+
+        /*
+         * Commits of a match may be notified out of order, events are kept sorted. A goal notified
+         * after a later one was sent is not sent: the score of the later one already counts it.
+         */
+        synchronized void append(List<GoalEvent> goals) {
+            List<GoalEvent> merged = new ArrayList<>(recent);
+            merged.addAll(goals);
+            merged.sort(null);
+            recent.clear();
+            recent.addAll(merged.subList(Math.max(0, merged.size() - replaySize), merged.size()));
+        }
+
+        synchronized List<GoalEvent> snapshot() {
+            return List.copyOf(recent);
+        }
+
+        void close() {
+            subscriptions.forEach(Subscription::close);
+            subscriptions.clear();
+        }
+
+        void deliver() {
+            List<GoalEvent> events = snapshot();
+            subscriptions.forEach(subscription -> deliver(subscription, events));
+        }
+
+        void deliver(Subscription subscription) {
+            deliver(subscription, snapshot());
+        }
+
+        private void deliver(Subscription subscription, List<GoalEvent> events) {
+            try {
+                subscription.send(events);
+            } catch (RuntimeException e) {
+                log.debug("Live score subscriber dropped", e);
+                subscriptions.remove(subscription);
+            }
+        }
+    }
+
+    // only the events after the last one sent are sent, so concurrent deliveries neither repeat nor reorder them
+    private static class Subscription {
+        private final Consumer<GoalEvent> listener;
+        private final Runnable onClose;
+        // guarded by this
+        private GoalEvent lastSent;
+
+        Subscription(Consumer<GoalEvent> listener, Runnable onClose, GoalEvent lastSent) {
+            this.listener = listener;
+            this.onClose = onClose;
+            this.lastSent = lastSent;
+        }
+
+        void close() {
+            try {
+                onClose.run();
+            } catch (RuntimeException e) {
+                log.debug("Live score subscriber not closed", e);
+            }
+        }
+
+        synchronized void send(List<GoalEvent> events) {
+            for (GoalEvent event : events) {
+                if (lastSent == null || event.compareTo(lastSent) > 0) {
+                    listener.accept(event);
+                    lastSent = event;
+                }
+            }
+        }
+    }
+}
@@ -1,38 +1,132 @@
 package app.foot.service;
 
+import app.foot.exception.BadRequestException;
 import app.foot.model.Match;
+import app.foot.model.MatchCursor;
+import app.foot.model.MatchFilter;
 import app.foot.model.PlayerScorer;
+import app.foot.repository.GoalSubmissionRepository;
 import app.foot.repository.MatchRepository;
+import app.foot.repository.PlayerScoreRepository;
+import app.foot.repository.entity.GoalSubmissionEntity;
 import app.foot.repository.entity.MatchEntity;
+import app.foot.repository.entity.PlayerScoreEntity;
 import app.foot.repository.mapper.MatchMapper;
+import app.foot.repository.projection.MatchRow;
+import app.foot.repository.projection.ScorerRow;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @AllArgsConstructor
+@Timed("foot.service")
 public class MatchService {
   private final MatchRepository repository;
   private final MatchMapper mapper;
   private final PlayerScoreService scoreService;
+  private final MatchCache cache;
+  private final PlayerScoreRepository scoreRepository;
+  private final EntityManager entityManager;
+  private final GoalSubmissionRepository submissionRepository;
+  private final MatchSnapshotStore snapshotStore;
 
-  public List<Match> getMatches() {
-    return repository.findAll().stream()
-        .map(mapper::toDomain)
+  @Transactional(readOnly = true)
+  public List<Match> getMatches(MatchFilter filter, MatchCursor after, int pageSize, boolean withScorers) {
+    List<Integer> ids = repository.findPageIds(filter, after, pageSize);
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    List<MatchRow> matches = repository.findRowsByIdIn(ids);
+    if (!withScorers) {
+      return matches.stream()
+          .map(mapper::toDomainWithoutScorers)
+          .toList();
+    }
+    Map<Integer, List<ScorerRow>> scorers = scoreRepository.findRowsByMatchIdIn(ids).stream()
+        .collect(Collectors.groupingBy(ScorerRow::getMatchId));
+    return matches.stream()
+        .map(match -> mapper.toDomain(match, scorers.getOrDefault(match.getId(), List.of())))
         .toList();
   }
 
+  @Transactional(readOnly = true)
+  public long countMatches(MatchFilter filter) {
+    return repository.count(filter);
+  }
+
+  public long getMatchesVersion() {
+    return repository.findMaxVersion();
+  }
+
+  // the persistence context is cleared after each chunk, so that memory stays flat
+  @Transactional(readOnly = true)
+  public void exportMatches(Consumer<Match> consumer) {
+    try (Stream<MatchEntity> matches = repository.streamAll()) {
+      Iterator<MatchEntity> iterator = matches.iterator();
+      List<MatchEntity> chunk = new ArrayList<>(MatchRepository.STREAM_FETCH_SIZE);
+      while (iterator.hasNext()) {
+        chunk.add(iterator.next());
+        if (chunk.size() == MatchRepository.STREAM_FETCH_SIZE || !iterator.hasNext()) {
+          exportChunk(chunk, consumer);
+          chunk.clear();
+        }
+      }
+    }
+  }
+
+  private void exportChunk(List<MatchEntity> chunk, Consumer<Match> consumer) {
+    Map<Integer, List<PlayerScoreEntity>> scorers = scoreRepository.findAllByMatchIdIn(chunk.stream()
+            .map(MatchEntity::getId)
+            .toList()).stream()
+        .collect(Collectors.groupingBy(scorer -> scorer.getMatch().getId()));
+    chunk.forEach(match -> consumer.accept(
+        mapper.toDomain(match, scorers.getOrDefault(match.getId(), List.of()))));
+    entityManager.clear();
+  }
+
   public Match getMatchById(int matchId) {
-    return mapper.toDomain(
-        repository.findById(matchId)
-            .orElseThrow(() -> new RuntimeException("Match#" + matchId + " not found."))
-    );
+    return snapshotStore.findById(matchId)
+        .orElseGet(() -> cache.get(matchId, this::loadMatch));
   }
 
+  @Transactional
   public Match addGoals(int matchId, List<PlayerScorer> scorers) {
-    getMatchById(matchId);
     scoreService.addGoals(matchId, scorers);
-    return getMatchById(matchId);
+    // Not read through the cache: it is only invalidated once this transaction commits
+    return loadMatch(matchId);
+  }
+
+  // the match is read after the key, whose insert waits for a submission of the same key still in progress
+  @Transactional
+  public Match addGoals(int matchId, List<PlayerScorer> scorers, String idempotencyKey) {
+    if (submissionRepository.insertIfAbsent(idempotencyKey, matchId) == 0) {
+      Integer submittedMatchId = submissionRepository.findById(idempotencyKey)
+          .map(GoalSubmissionEntity::getMatchId)
+          .orElse(matchId);
+      if (submittedMatchId != matchId) {
+        throw new BadRequestException(
+            "Idempotency key " + idempotencyKey + " was already used for Match#" + submittedMatchId + ".");
+      }
+      return loadMatch(matchId);
+    }
+    return addGoals(matchId, scorers);
+  }
+
+  private Match loadMatch(int matchId) {
+    return mapper.toDomain(
+        repository.findById(matchId)
+            .orElseThrow(() -> new RuntimeException("Match#" + matchId + " not found."))
+    );
   }
 }
@@ -0,0 +1,85 @@
+package app.foot.service;
+
+import app.foot.repository.snapshot.MatchSnapshot;
+import app.foot.repository.snapshot.MatchSnapshotWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * On startup, a snapshot built at another version of the matches is written again before it is served.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "foot.snapshot.enabled", havingValue = "true")
+public class MatchSnapshotService {
+    private final MatchService matchService;
+    private final MatchSnapshotStore store;
+    private final Path path;
+    private final Duration finishedAfter;
+
+    public MatchSnapshotService(MatchService matchService,
+                                MatchSnapshotStore store,
+                                @Value("${foot.snapshot.path}") Path path,
+                                @Value("${foot.snapshot.finished-after-minutes}") long finishedAfterMinutes) {
+        this.matchService = matchService;
+        this.store = store;
+        this.path = path;
+        this.finishedAfter = Duration.ofMinutes(finishedAfterMinutes);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!Files.exists(path)) {
+            rebuild();
+            return;
+        }
+        MatchSnapshot snapshot;
+        try {
+            snapshot = MatchSnapshot.open(path);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Match snapshot {} cannot be read, rewriting it", path, e);
+            rebuild();
+            return;
+        }
+        if (snapshot.getMatchesVersion() != matchService.getMatchesVersion()) {
+            log.info("Match snapshot {} is out of date, rewriting it", path);
+            rebuild();
+            return;
+        }
+        store.replace(snapshot, Instant.EPOCH);
+    }
+
+    @Scheduled(fixedDelayString = "${foot.snapshot.rebuild-interval}",
+            initialDelayString = "${foot.snapshot.rebuild-interval}")
+    public synchronized void rebuild() {
+        Instant builtAt = Instant.now();
+        Instant finishedBefore = builtAt.minus(finishedAfter);
+        try (MatchSnapshotWriter writer = new MatchSnapshotWriter(path, matchService.getMatchesVersion())) {
+            matchService.exportMatches(match -> {
+                if (match.getDatetime().isBefore(finishedBefore)) {
+                    try {
+                        writer.write(match);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+            writer.finish();
+            store.replace(MatchSnapshot.open(path), builtAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Match snapshot " + path + " cannot be written", e);
+        }
+    }
+}
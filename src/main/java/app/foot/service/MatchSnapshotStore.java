@@ -0,0 +1,91 @@
+package app.foot.service;
+
+import app.foot.model.Match;
+import app.foot.model.Player;
+import app.foot.repository.snapshot.MatchSnapshot;
+import app.foot.service.event.GoalsAddedEvent;
+import app.foot.service.event.PlayersUpdatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A match whose goals were committed after the snapshot was built is not read from it,
+ * and players updated since then replace the ones stored in it.
+ */
+@Component
+public class MatchSnapshotStore {
+    private final boolean enabled;
+    private volatile MatchSnapshot snapshot;
+    // version of the latest goals committed per match, guarded by this
+    private final Map<Integer, Long> committedVersions = new HashMap<>();
+    // version given to matches by the latest update of their scorers, guarded by this
+    private final Map<Integer, Long> scorerVersions = new HashMap<>();
+    // guarded by this
+    private final Map<Integer, UpdatedPlayer> updatedPlayers = new HashMap<>();
+
+    public MatchSnapshotStore(@Value("${foot.snapshot.enabled}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Optional<Match> findById(int matchId) {
+        MatchSnapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        Optional<Match> match = current.findById(matchId, this::getUpdatedPlayer);
+        synchronized (this) {
+            Long committedVersion = committedVersions.get(matchId);
+            Long scorerVersion = scorerVersions.get(matchId);
+            return match
+                    .filter(stored -> committedVersion == null || stored.getVersion() >= committedVersion)
+                    .map(stored -> scorerVersion == null || stored.getVersion() >= scorerVersion
+                            ? stored
+                            : stored.toBuilder().version(scorerVersion).build());
+        }
+    }
+
+    public synchronized void replace(MatchSnapshot snapshot, Instant builtAt) {
+        this.snapshot = snapshot;
+        committedVersions.entrySet().removeIf(committed -> isStored(snapshot, committed));
+        scorerVersions.entrySet().removeIf(updated -> isStored(snapshot, updated));
+        updatedPlayers.values().removeIf(updated -> updated.updatedAt().isBefore(builtAt));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onGoalsAdded(GoalsAddedEvent event) {
+        // also tracked while the first snapshot is built, as it may miss these goals
+        if (enabled) {
+            committedVersions.merge(event.getMatchId(), event.getVersion(), Math::max);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPlayersUpdated(PlayersUpdatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Instant now = Instant.now();
+        event.getPlayers().forEach(player -> updatedPlayers.put(player.getId(), new UpdatedPlayer(player, now)));
+        event.getMatchVersions().forEach((matchId, version) -> scorerVersions.merge(matchId, version, Math::max));
+    }
+
+    private static boolean isStored(MatchSnapshot snapshot, Map.Entry<Integer, Long> version) {
+        return snapshot.findById(version.getKey())
+                .map(stored -> stored.getVersion() >= version.getValue())
+                .orElse(true);
+    }
+
+    private synchronized Player getUpdatedPlayer(int playerId) {
+        UpdatedPlayer updated = updatedPlayers.get(playerId);
+        return updated == null ? null : updated.player();
+    }
+
+    private record UpdatedPlayer(Player player, Instant updatedAt) {
+    }
+}
@@ -1,27 +1,104 @@
 package app.foot.service;
 
+import app.foot.exception.BadRequestException;
 import app.foot.model.PlayerScorer;
+import app.foot.repository.MatchRepository;
 import app.foot.repository.PlayerScoreRepository;
+import app.foot.repository.entity.MatchEntity;
+import app.foot.repository.entity.PlayerEntity;
+import app.foot.repository.entity.PlayerScoreEntity;
+import app.foot.repository.mapper.MatchMapper;
 import app.foot.repository.mapper.PlayerMapper;
+import app.foot.repository.mapper.TeamMapper;
+import app.foot.repository.projection.MatchScores;
+import app.foot.service.event.GoalsAddedEvent;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
 @AllArgsConstructor
+@Timed("foot.service")
 public class PlayerScoreService {
   private final PlayerScoreRepository jpaRepository;
+  private final MatchRepository matchRepository;
   private final PlayerMapper mapper;
+  private final TeamMapper teamMapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final EntityManager entityManager;
 
   @Transactional
   public List<PlayerScorer> addGoals(int matchId, List<PlayerScorer> scorers) {
-    return jpaRepository.saveAll(
-            scorers.stream()
-                .map(scorer -> mapper.toEntity(matchId, scorer))
-                .toList()
-        ).stream()
+    MatchEntity match = matchRepository.findById(matchId)
+        .orElseThrow(() -> new RuntimeException("Match#" + matchId + " not found."));
+    Map<Integer, PlayerEntity> players = getPlayers(scorers);
+    List<PlayerScoreEntity> saved = jpaRepository.saveAll(scorers.stream()
+        .map(scorer -> mapper.toEntity(match, players.get(scorer.getPlayer().getId()), scorer))
+        .toList());
+    match.getScorers().addAll(saved);
+    addScores(match, saved);
+    List<PlayerScorer> added = saved.stream()
         .map(mapper::toDomain)
         .toList();
+    eventPublisher.publishEvent(GoalsAddedEvent.builder()
+        .matchId(matchId)
+        .teamA(teamMapper.toDomain(match.getTeamA()))
+        .teamB(teamMapper.toDomain(match.getTeamB()))
+        .scoreA(match.getScoreA())
+        .scoreB(match.getScoreB())
+        .version(match.getVersion())
+        .scorers(added)
+        .scorerTeamIds(saved.stream()
+            .map(goal -> goal.getPlayer().getTeam().getId())
+            .toList())
+        .build());
+    return added;
+  }
+
+  // the match row stays locked by the update until commit, so the scores read back are exact
+  private void addScores(MatchEntity match, List<PlayerScoreEntity> goals) {
+    int goalsA = (int) goals.stream()
+        .filter(goal -> MatchMapper.isGoalFor(match.getTeamA(), goal))
+        .count();
+    int goalsB = (int) goals.stream()
+        .filter(goal -> MatchMapper.isGoalFor(match.getTeamB(), goal))
+        .count();
+    matchRepository.addScores(match.getId(), goalsA, goalsB);
+    MatchScores scores = matchRepository.findScoresById(match.getId());
+    match.setScoreA(scores.getScoreA());
+    match.setScoreB(scores.getScoreB());
+    match.setVersion(scores.getVersion());
+  }
+
+  private Map<Integer, PlayerEntity> getPlayers(List<PlayerScorer> scorers) {
+    Set<Integer> ids = scorers.stream()
+        .map(scorer -> scorer.getPlayer().getId())
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+    Map<Integer, PlayerEntity> players = entityManager.unwrap(Session.class)
+        .byMultipleIds(PlayerEntity.class)
+        // the cache is only checked when a cache mode is given
+        .with(CacheMode.NORMAL)
+        .multiLoad(List.copyOf(ids)).stream()
+        .filter(Objects::nonNull)
+        .collect(Collectors.toMap(PlayerEntity::getId, Function.identity()));
+    List<Integer> missingIds = ids.stream()
+        .filter(id -> !players.containsKey(id))
+        .toList();
+    if (!missingIds.isEmpty()) {
+      throw new BadRequestException("Players " + missingIds + " do not exist.");
+    }
+    return players;
   }
 }
@@ -2,31 +2,58 @@ package app.foot.service;
 
 import app.foot.exception.BadRequestException;
 import app.foot.model.Player;
+import app.foot.repository.MatchRepository;
 import app.foot.repository.PlayerRepository;
+import app.foot.repository.TeamDirectory;
 import app.foot.repository.entity.PlayerEntity;
 import app.foot.repository.mapper.PlayerMapper;
-import jakarta.transaction.Transactional;
+import app.foot.repository.projection.MatchVersion;
+import app.foot.repository.projection.PlayerRow;
+import app.foot.service.event.PlayersUpdatedEvent;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
+@Timed("foot.service")
 public class PlayerService {
     private final PlayerRepository repository;
+    private final MatchRepository matchRepository;
     private final PlayerMapper mapper;
+    private final TeamDirectory teamDirectory;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public List<Player> getPlayers() {
-        return repository.findAll().stream()
+    @Transactional(readOnly = true)
+    public List<Player> getPlayers(Integer afterId, int pageSize) {
+        Pageable page = PageRequest.ofSize(pageSize);
+        List<PlayerRow> players = afterId == null
+                ? repository.findFirstPageRows(page)
+                : repository.findPageRowsAfter(afterId, page);
+        return players.stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toUnmodifiableList());
     }
 
     public List<Player> createPlayers(List<Player> toCreate) {
+        List<String> unknownTeams = toCreate.stream()
+                .map(Player::getTeamName)
+                .distinct()
+                .filter(teamName -> teamDirectory.findByName(teamName).isEmpty())
+                .toList();
+        if (!unknownTeams.isEmpty()) {
+            throw new BadRequestException("Teams " + unknownTeams + " do not exist.");
+        }
         return repository.saveAll(toCreate.stream()
                         .map(mapper::toEntity)
                         .collect(Collectors.toUnmodifiableList())).stream()
@@ -36,19 +63,49 @@ public class PlayerService {
 
     @Transactional
     public List<Player> updatePlayers(List<Player> players) {
-        List<Player> updatedPlayers = new ArrayList<>();
-        players.forEach(player -> {
-            Optional<PlayerEntity> dbPlayer = repository.findById(player.getId());
-            if (dbPlayer.isEmpty()) throw new BadRequestException("The user " + player + "Does not exist");
+        Map<Integer, PlayerEntity> dbPlayers = repository.findAllByIdIn(players.stream()
+                        .map(Player::getId)
+                        .toList()).stream()
+                .collect(Collectors.toMap(PlayerEntity::getId, Function.identity()));
+        List<Integer> missingIds = players.stream()
+                .map(Player::getId)
+                .filter(id -> !dbPlayers.containsKey(id))
+                .distinct()
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new BadRequestException("Players " + missingIds + " do not exist.");
+        }
 
-            PlayerEntity playerEntity = dbPlayer.get();
-            playerEntity.setGuardian(player.getIsGuardian());
-            playerEntity.setName(player.getName());
-            repository.save(playerEntity);
+        // Only the modified players are saved, and their updates are flushed as one JDBC batch
+        List<PlayerEntity> modified = repository.saveAll(players.stream()
+                .filter(player -> isModified(dbPlayers.get(player.getId()), player))
+                .map(player -> {
+                    PlayerEntity playerEntity = dbPlayers.get(player.getId());
+                    playerEntity.setGuardian(player.getIsGuardian());
+                    playerEntity.setName(player.getName());
+                    return playerEntity;
+                })
+                .toList());
+        if (!modified.isEmpty()) {
+            List<Integer> modifiedIds = modified.stream()
+                    .map(PlayerEntity::getId)
+                    .toList();
+            matchRepository.addVersionsByScorerIdIn(modifiedIds);
+            eventPublisher.publishEvent(new PlayersUpdatedEvent(
+                    modified.stream()
+                            .map(mapper::toDomain)
+                            .toList(),
+                    matchRepository.findVersionsByScorerIdIn(modifiedIds).stream()
+                            .collect(Collectors.toMap(MatchVersion::getId, MatchVersion::getVersion))));
+        }
 
-            updatedPlayers.add(repository.findById(player.getId()).map(mapper::toDomain).get());
-        });
+        return players.stream()
+                .map(player -> mapper.toDomain(dbPlayers.get(player.getId())))
+                .collect(Collectors.toUnmodifiableList());
+    }
 
-        return updatedPlayers;
+    private static boolean isModified(PlayerEntity dbPlayer, Player player) {
+        return !Objects.equals(dbPlayer.getName(), player.getName())
+                || dbPlayer.isGuardian() != player.getIsGuardian();
     }
 }
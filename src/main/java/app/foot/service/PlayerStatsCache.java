@@ -0,0 +1,37 @@
+package app.foot.service;
+
+import app.foot.model.Player;
+import app.foot.model.PlayerScorer;
+import app.foot.model.PlayerStats;
+import app.foot.service.event.GoalsAddedEvent;
+import app.foot.service.event.PlayersUpdatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+@Component
+public class PlayerStatsCache extends BoundedCache<Integer, PlayerStats> {
+    // matches of their team kicking off change their matches played, so statistics also expire
+    public PlayerStatsCache(@Value("${foot.cache.player-stats.max-size}") int maxSize,
+                            @Value("${foot.cache.player-stats.ttl-seconds}") long ttlSeconds) {
+        super("player-stats", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    // own goals also count in the statistics of their scorer
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalsAdded(GoalsAddedEvent event) {
+        invalidateAll(event.getScorers().stream()
+                .map(PlayerScorer::getPlayer)
+                .map(Player::getId)
+                .toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayersUpdated(PlayersUpdatedEvent event) {
+        invalidateAll(event.getPlayers().stream()
+                .map(Player::getId)
+                .toList());
+    }
+}
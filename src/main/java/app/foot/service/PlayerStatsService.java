@@ -0,0 +1,47 @@
+package app.foot.service;
+
+import app.foot.model.PlayerStats;
+import app.foot.repository.PlayerScoreRepository;
+import app.foot.repository.mapper.PlayerMapper;
+import io.micrometer.core.annotation.Timed;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@AllArgsConstructor
+@Timed("foot.service")
+public class PlayerStatsService {
+    private final PlayerScoreRepository scoreRepository;
+    private final PlayerMapper mapper;
+    private final PlayerStatsCache cache;
+
+    public PlayerStats getStats(int playerId) {
+        return getStats(List.of(playerId)).get(0);
+    }
+
+    public List<PlayerStats> getStats(List<Integer> playerIds) {
+        LinkedHashSet<Integer> uniqueIds = new LinkedHashSet<>(playerIds);
+        Map<Integer, PlayerStats> stats = cache.getAll(uniqueIds, this::load);
+        return uniqueIds.stream()
+                .map(playerId -> {
+                    PlayerStats found = stats.get(playerId);
+                    if (found == null) {
+                        throw new RuntimeException("Player#" + playerId + " not found.");
+                    }
+                    return found;
+                })
+                .toList();
+    }
+
+    private Map<Integer, PlayerStats> load(List<Integer> playerIds) {
+        return scoreRepository.findStatsByPlayerIdIn(playerIds).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toMap(stats -> stats.getPlayer().getId(), Function.identity()));
+    }
+}
@@ -0,0 +1,185 @@
+package app.foot.service;
+
+import app.foot.model.Standing;
+import app.foot.model.Team;
+import app.foot.repository.MatchRepository;
+import app.foot.repository.TeamDirectory;
+import app.foot.repository.entity.MatchEntity;
+import app.foot.repository.mapper.TeamMapper;
+import app.foot.service.event.GoalsAddedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * League table kept in memory. A match counts once it has kicked off, or as soon as a goal is added to it.
+ */
+@Service
+@RequiredArgsConstructor
+public class StandingService {
+    private static final Comparator<Standing> RANKING = Comparator
+            .comparingInt(Standing::getPoints).reversed()
+            .thenComparing(Comparator.comparingInt(Standing::getGoalDifference).reversed())
+            .thenComparing(Comparator.comparingInt(Standing::getGoalsFor).reversed())
+            .thenComparing(standing -> standing.getTeam().getName(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(standing -> standing.getTeam().getId());
+
+    private final MatchRepository matchRepository;
+    private final TeamDirectory teamDirectory;
+    private final TeamMapper teamMapper;
+    private final Object rebuildLock = new Object();
+    // guarded by this
+    private Table table = new Table();
+    // results applied while a rebuild reads the database, guarded by this
+    private List<MatchResult> appliedDuringRebuild;
+
+    public synchronized List<Standing> getStandings() {
+        return table.toStandings();
+    }
+
+    public List<Standing> compute() {
+        return load().toStandings();
+    }
+
+    // scheduled too: goals committed by other instances and matches kicking off without goals only show up here
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${foot.standings.rebuild-interval}",
+            initialDelayString = "${foot.standings.rebuild-interval}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                appliedDuringRebuild = new ArrayList<>();
+            }
+            Table rebuilt;
+            try {
+                rebuilt = load();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    appliedDuringRebuild = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                appliedDuringRebuild.forEach(rebuilt::apply);
+                appliedDuringRebuild = null;
+                table = rebuilt;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onGoalsAdded(GoalsAddedEvent event) {
+        // an empty batch does not make a match started, as the load from the database would not count it either
+        if (event.getScorers().isEmpty()) {
+            return;
+        }
+        MatchResult result = new MatchResult(event.getMatchId(),
+                event.getTeamA(), event.getTeamB(), event.getScoreA(), event.getScoreB());
+        table.apply(result);
+        if (appliedDuringRebuild != null) {
+            appliedDuringRebuild.add(result);
+        }
+    }
+
+    private Table load() {
+        Table loaded = new Table();
+        teamDirectory.findAll().forEach(team -> loaded.addTeam(teamMapper.toDomain(team)));
+        for (MatchEntity match : matchRepository.findAllStarted(Instant.now())) {
+            loaded.apply(new MatchResult(match.getId(),
+                    teamMapper.toDomain(match.getTeamA()), teamMapper.toDomain(match.getTeamB()),
+                    match.getScoreA(), match.getScoreB()));
+        }
+        return loaded;
+    }
+
+    private record MatchResult(Integer matchId, Team teamA, Team teamB, int scoreA, int scoreB) {
+        int goals() {
+            return scoreA + scoreB;
+        }
+    }
+
+    private static class Table {
+        private final Map<Integer, MatchResult> results = new HashMap<>();
+        private final Map<Integer, TeamRecord> records = new HashMap<>();
+
+        void addTeam(Team team) {
+            records.computeIfAbsent(team.getId(), id -> new TeamRecord(team));
+        }
+
+        // goals are only ever added: a result with no more goals than the counted one is a replay, or late
+        void apply(MatchResult result) {
+            MatchResult counted = results.get(result.matchId());
+            if (counted != null) {
+                if (counted.goals() >= result.goals()) {
+                    return;
+                }
+                count(counted, -1);
+            }
+            results.put(result.matchId(), result);
+            count(result, 1);
+        }
+
+        private void count(MatchResult result, int sign) {
+            records.computeIfAbsent(result.teamA().getId(), id -> new TeamRecord(result.teamA()))
+                    .count(result.scoreA(), result.scoreB(), sign);
+            records.computeIfAbsent(result.teamB().getId(), id -> new TeamRecord(result.teamB()))
+                    .count(result.scoreB(), result.scoreA(), sign);
+        }
+
+        List<Standing> toStandings() {
+            return records.values().stream()
+                    .map(TeamRecord::toStanding)
+                    .sorted(RANKING)
+                    .toList();
+        }
+    }
+
+    private static class TeamRecord {
+        private final Team team;
+        private int won;
+        private int drawn;
+        private int lost;
+        private int goalsFor;
+        private int goalsAgainst;
+
+        TeamRecord(Team team) {
+            this.team = team;
+        }
+
+        void count(int scored, int conceded, int sign) {
+            goalsFor += sign * scored;
+            goalsAgainst += sign * conceded;
+            if (scored > conceded) {
+                won += sign;
+            } else if (scored == conceded) {
+                drawn += sign;
+            } else {
+                lost += sign;
+            }
+        }
+
+        Standing toStanding() {
+            return Standing.builder()
+                    .team(team)
+                    .played(won + drawn + lost)
+                    .won(won)
+                    .drawn(drawn)
+                    .lost(lost)
+                    .goalsFor(goalsFor)
+                    .goalsAgainst(goalsAgainst)
+                    .goalDifference(goalsFor - goalsAgainst)
+                    .points(3 * won + drawn)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package app.foot.service;
+
+import app.foot.exception.BadRequestException;
+import app.foot.model.Player;
+import app.foot.model.PlayerScorer;
+import app.foot.model.TopScorer;
+import app.foot.repository.PlayerRepository;
+import app.foot.repository.PlayerScoreRepository;
+import app.foot.repository.TeamDirectory;
+import app.foot.repository.entity.PlayerEntity;
+import app.foot.repository.mapper.PlayerMapper;
+import app.foot.repository.projection.PlayerGoals;
+import app.foot.service.event.GoalsAddedEvent;
+import app.foot.service.event.PlayersUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TopScorerService implements SmartInitializingSingleton {
+    private static final Comparator<TopScorer> RANKING = Comparator
+            .comparingInt(TopScorer::getGoals).reversed()
+            .thenComparing(scorer -> scorer.getPlayer().getId());
+
+    private final PlayerScoreRepository scoreRepository;
+    private final PlayerRepository playerRepository;
+    private final PlayerMapper playerMapper;
+    private final TeamDirectory teamDirectory;
+    // all guarded by this
+    private final Map<Integer, TopScorer> byPlayerId = new HashMap<>();
+    private final Map<Integer, Integer> teamIdByPlayerId = new HashMap<>();
+    private final NavigableSet<TopScorer> ranking = new TreeSet<>(RANKING);
+    private final Map<Integer, NavigableSet<TopScorer>> rankingByTeamId = new HashMap<>();
+
+    public List<TopScorer> getTopScorers(int limit, Integer teamId) {
+        if (teamId != null && teamDirectory.findById(teamId).isEmpty()) {
+            throw new BadRequestException("Team#" + teamId + " does not exist.");
+        }
+        synchronized (this) {
+            NavigableSet<TopScorer> scorers = teamId == null
+                    ? ranking
+                    : rankingByTeamId.getOrDefault(teamId, Collections.emptyNavigableSet());
+            return scorers.stream()
+                    .limit(limit)
+                    .toList();
+        }
+    }
+
+    // before the web server starts, so that no goal is committed while they are counted
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    // goals committed meanwhile by this instance may be counted twice
+    public void rebuild() {
+        Map<Integer, Long> goals = scoreRepository.countGoalsByPlayer().stream()
+                .collect(Collectors.toMap(PlayerGoals::getPlayerId, PlayerGoals::getGoals));
+        Map<Integer, PlayerEntity> players = playerRepository.findAllByIdIn(goals.keySet()).stream()
+                .collect(Collectors.toMap(PlayerEntity::getId, Function.identity()));
+        synchronized (this) {
+            byPlayerId.clear();
+            teamIdByPlayerId.clear();
+            ranking.clear();
+            rankingByTeamId.clear();
+            goals.forEach((playerId, count) -> put(TopScorer.builder()
+                            .player(playerMapper.toDomain(players.get(playerId)))
+                            .goals(count.intValue())
+                            .build(),
+                    players.get(playerId).getTeam().getId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onGoalsAdded(GoalsAddedEvent event) {
+        for (int i = 0; i < event.getScorers().size(); i++) {
+            PlayerScorer scorer = event.getScorers().get(i);
+            if (scorer.getIsOwnGoal()) {
+                continue;
+            }
+            TopScorer current = remove(scorer.getPlayer().getId());
+            put(current == null
+                            ? TopScorer.builder().player(scorer.getPlayer()).goals(1).build()
+                            : current.toBuilder().goals(current.getGoals() + 1).build(),
+                    event.getScorerTeamIds().get(i));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPlayersUpdated(PlayersUpdatedEvent event) {
+        for (Player player : event.getPlayers()) {
+            Integer teamId = teamIdByPlayerId.get(player.getId());
+            TopScorer current = remove(player.getId());
+            if (current != null) {
+                put(current.toBuilder().player(player).build(), teamId);
+            }
+        }
+    }
+
+    private TopScorer remove(Integer playerId) {
+        TopScorer removed = byPlayerId.remove(playerId);
+        if (removed != null) {
+            ranking.remove(removed);
+            rankingByTeamId.get(teamIdByPlayerId.remove(playerId)).remove(removed);
+        }
+        return removed;
+    }
+
+    private void put(TopScorer scorer, Integer teamId) {
+        byPlayerId.put(scorer.getPlayer().getId(), scorer);
+        teamIdByPlayerId.put(scorer.getPlayer().getId(), teamId);
+        ranking.add(scorer);
+        rankingByTeamId.computeIfAbsent(teamId, id -> new TreeSet<>(RANKING)).add(scorer);
+    }
+}
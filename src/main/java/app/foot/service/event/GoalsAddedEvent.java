@@ -0,0 +1,24 @@
+package app.foot.service.event;
+
+import app.foot.model.PlayerScorer;
+import app.foot.model.Team;
+import lombok.*;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+public class GoalsAddedEvent {
+    private Integer matchId;
+    private Team teamA;
+    private Team teamB;
+    private int scoreA;
+    private int scoreB;
+    private long version;
+    private List<PlayerScorer> scorers;
+    // id of the team of each scorer, in the order of the scorers
+    private List<Integer> scorerTeamIds;
+}
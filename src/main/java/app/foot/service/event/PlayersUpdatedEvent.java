@@ -0,0 +1,16 @@
+package app.foot.service.event;
+
+import app.foot.model.Player;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@AllArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode
+public class PlayersUpdatedEvent {
+    private List<Player> players;
+    private Map<Integer, Long> matchVersions;
+}
@@ -0,0 +1,2 @@
+-- V0_7 restarted the player serial at 7 while the guardians inserted by V0_6 already use ids 7 to 9.
+select setval('player_id_seq', (select max(id) from player));
@@ -0,0 +1,9 @@
+-- idempotency keys of the goal submissions already written
+create table if not exists goal_submission
+(
+    idempotency_key varchar(255)                not null primary key,
+    id_match        integer                     not null references match (id),
+    created_at      timestamp without time zone not null default now()
+);
+
+create index if not exists goal_submission_created_at_idx on goal_submission (created_at);
@@ -0,0 +1,7 @@
+-- taken from one sequence, so that the highest version also tells whether any match changed
+create sequence if not exists match_version_seq;
+
+alter table match
+    add column if not exists version bigint not null default nextval('match_version_seq');
+
+create index if not exists match_version_idx on match (version);
@@ -0,0 +1,10 @@
+-- goals are read by match for every match read, and by player for player statistics
+create index if not exists player_score_id_match_idx on player_score (id_match);
+create index if not exists player_score_id_player_idx on player_score (id_player);
+
+-- matches are paged by (datetime, id) and selected by team
+create index if not exists match_datetime_id_idx on match ("datetime", id);
+create index if not exists match_id_team_a_idx on match (id_team_A);
+create index if not exists match_id_team_b_idx on match (id_team_B);
+
+create index if not exists player_id_team_idx on player (id_team);
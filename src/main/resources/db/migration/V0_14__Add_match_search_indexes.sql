@@ -0,0 +1,7 @@
+-- matches searched by team or by stadium are also paged by (datetime, id),
+-- the team indexes still serving the foreign keys
+drop index if exists match_id_team_a_idx;
+drop index if exists match_id_team_b_idx;
+create index if not exists match_id_team_a_datetime_id_idx on match (id_team_A, "datetime", id);
+create index if not exists match_id_team_b_datetime_id_idx on match (id_team_B, "datetime", id);
+create index if not exists match_stadium_datetime_id_idx on match (stadium, "datetime", id);
@@ -0,0 +1,3 @@
+-- Hibernate allocates player_score ids 50 at a time from this sequence so that goal inserts can be batched.
+alter sequence player_score_id_seq increment by 50;
+select setval('player_score_id_seq', (select coalesce(max(id), 0) from player_score) + 50, false);
@@ -0,0 +1,16 @@
+alter table match
+    add column score_a integer not null default 0,
+    add column score_b integer not null default 0;
+
+-- A goal counts for a team when it is scored by one of its players, or is an own goal of another player.
+update match m
+set score_a = (select count(*)
+               from player_score s
+                        join player p on p.id = s.id_player
+               where s.id_match = m.id
+                 and (p.id_team = m.id_team_A) <> coalesce(s.own_goal, false)),
+    score_b = (select count(*)
+               from player_score s
+                        join player p on p.id = s.id_player
+               where s.id_match = m.id
+                 and (p.id_team = m.id_team_B) <> coalesce(s.own_goal, false));
@@ -4,6 +4,7 @@ import app.foot.FootApi;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
@@ -13,6 +14,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 @SpringBootTest(classes = FootApi.class)
 @AutoConfigureMockMvc
+@AutoConfigureObservability
 public class HealthIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
@@ -27,4 +29,22 @@ public class HealthIntegrationTest {
         Assertions.assertEquals(HttpStatus.OK.value(), response.getStatus());
         Assertions.assertEquals(expectedResponseBody, response.getContentAsString());
     }
+
+    @Test
+    void prometheus_ok() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/matches/1"));
+
+        MockHttpServletResponse response = mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andReturn()
+                .getResponse();
+        String metrics = response.getContentAsString();
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatus());
+        Assertions.assertTrue(metrics.contains("http_server_requests_seconds_count{"));
+        Assertions.assertTrue(metrics.contains("foot_service_seconds_count{class=\"app.foot.service.MatchService\""));
+        Assertions.assertTrue(metrics.contains("spring_data_repository_invocations_seconds_count{"));
+        Assertions.assertTrue(metrics.contains("hibernate_statements_total{"));
+        Assertions.assertTrue(metrics.contains("hikaricp_connections_acquire_seconds_count{"));
+        Assertions.assertTrue(metrics.contains("cache_gets_total{cache=\"match\""));
+    }
 }
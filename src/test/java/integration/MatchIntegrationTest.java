@@ -1,16 +1,29 @@
 package integration;
 
 import app.foot.FootApi;
+import app.foot.controller.rest.GoalTicket;
 import app.foot.controller.rest.Match;
 import app.foot.controller.rest.Player;
 import app.foot.controller.rest.PlayerScorer;
 import app.foot.controller.rest.Team;
 import app.foot.controller.rest.TeamMatch;
+import app.foot.controller.rest.mapper.CursorRestMapper;
 import app.foot.exception.BadRequestException;
+import app.foot.repository.MatchRepository;
+import app.foot.repository.PlayerRepository;
+import app.foot.repository.PlayerScoreRepository;
+import app.foot.repository.TeamRepository;
+import app.foot.repository.entity.MatchEntity;
+import app.foot.repository.entity.PlayerEntity;
+import app.foot.repository.entity.PlayerScoreEntity;
+import app.foot.service.MatchService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -19,25 +32,52 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.UnsupportedEncodingException;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest(classes = FootApi.class)
+@SpringBootTest(classes = FootApi.class,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @AutoConfigureMockMvc
 @Slf4j
 class MatchIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private PlayerScoreRepository playerScoreRepository;
+    @Autowired
+    private MatchService matchService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper()
             .findAndRegisterModules();  //Allow 'java.time.Instant' mapping
 
@@ -54,9 +94,178 @@ class MatchIntegrationTest {
         assertEquals(expectedMatch2(), actual);
     }
 
+    @Test
+    void read_matches_by_page_ok() throws Exception {
+        MockHttpServletResponse firstPage = mockMvc.perform(get("/matches").param("pageSize", "1"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        String nextCursor = firstPage.getHeader(CursorRestMapper.NEXT_CURSOR_HEADER);
+        MockHttpServletResponse secondPage = mockMvc.perform(get("/matches")
+                        .param("pageSize", "1")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertEquals(1, convertToMatches(firstPage).get(0).getId());
+        assertEquals(expectedMatch2(), convertToMatches(secondPage).get(0));
+    }
+
+    @Test
+    void read_match_not_modified() throws Exception {
+        int matchId = saveMatch().getId();
+        String eTag = mockMvc.perform(get("/matches/" + matchId))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        MockHttpServletResponse notModified = mockMvc.perform(get("/matches/" + matchId)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andReturn()
+                .getResponse();
+        assertEquals("", notModified.getContentAsString());
+
+        mockMvc.perform(post("/matches/" + matchId + "/goals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(playerScorerToCreate().toBuilder()
+                                .player(player3())
+                                .build()))))
+                .andExpect(status().isOk());
+        MockHttpServletResponse modified = mockMvc.perform(get("/matches/" + matchId)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        assertNotEquals(eTag, modified.getHeader("ETag"));
+        assertEquals(1, convertFormHttpResponse(modified).getTeamB().getScore());
+    }
+
+    @Test
+    void read_match_after_scorer_update_ok() throws Exception {
+        MatchEntity match = saveMatch();
+        PlayerEntity scorer = saveGoalOfNewPlayer(match);
+        mockMvc.perform(get("/matches/" + match.getId()))
+                .andExpect(status().isOk());
+
+        renamePlayer(scorer, "Renamed " + match.getId());
+        Match actual = convertFormHttpResponse(mockMvc.perform(get("/matches/" + match.getId()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse());
+
+        assertEquals("Renamed " + match.getId(),
+                actual.getTeamA().getScorers().get(0).getPlayer().getName());
+    }
+
+    @Test
+    void read_match_modified_after_scorer_update() throws Exception {
+        MatchEntity match = saveMatch();
+        PlayerEntity scorer = saveGoalOfNewPlayer(match);
+        String eTag = mockMvc.perform(get("/matches/" + match.getId()))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        String matchesETag = mockMvc.perform(get("/matches"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        renamePlayer(scorer, "Renamed " + match.getId());
+        MockHttpServletResponse modified = mockMvc.perform(get("/matches/" + match.getId())
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertNotEquals(eTag, modified.getHeader("ETag"));
+        assertEquals("Renamed " + match.getId(),
+                convertFormHttpResponse(modified).getTeamA().getScorers().get(0).getPlayer().getName());
+        mockMvc.perform(get("/matches").header("If-None-Match", matchesETag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void stream_goal_events_ok() throws Exception {
+        int matchId = saveMatch().getId();
+        MvcResult stream = mockMvc.perform(get("/matches/" + matchId + "/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(post("/matches/" + matchId + "/goals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(playerScorerToCreate().toBuilder()
+                                .player(player3())
+                                .build()))))
+                .andExpect(status().isOk());
+        String events = "";
+        for (int i = 0; i < 100 && !events.contains("data:"); i++) {
+            Thread.sleep(20);
+            events = stream.getResponse().getContentAsString();
+        }
+
+        assertTrue(events.contains("event:goal"));
+        assertTrue(events.contains("\"playerId\":3"));
+        assertTrue(events.contains("\"scoreB\":1"));
+    }
+
+    @Test
+    void read_matches_not_modified() throws Exception {
+        String eTag = mockMvc.perform(get("/matches").param("pageSize", "2"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/matches").param("pageSize", "2")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        saveMatch();
+        mockMvc.perform(get("/matches").param("pageSize", "2")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void export_matches_ok() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(get("/matches/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        List<String> lines = response.getContentAsString().lines().toList();
+
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getContentType());
+        assertEquals(matchRepository.count(), lines.size());
+        assertEquals(expectedMatch2(), objectMapper.readValue(lines.get(1), Match.class));
+    }
+
+    @Test
+    void read_matches_statement_count_does_not_depend_on_match_count() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/matches")).andExpect(status().isOk());
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        saveMatchWithGoals();
+        saveMatchWithGoals();
+        statistics.clear();
+        mockMvc.perform(get("/matches")).andExpect(status().isOk());
+
+        assertEquals(statementsBefore, statistics.getPrepareStatementCount());
+    }
+
     @Test
     void add_goals_ok() throws Exception {
         final int CURRENT_MATCH_ID = 3;
+        int scoreBefore = convertFormHttpResponse(mockMvc.perform(get("/matches/3"))
+                .andReturn()
+                .getResponse()).getTeamB().getScore();
         MockHttpServletResponse response = mockMvc.perform(
                         post("/matches/3/goals")
                                 .contentType(MediaType.APPLICATION_JSON)
@@ -67,6 +276,244 @@ class MatchIntegrationTest {
         Match actual = convertFormHttpResponse(response);
         assertEquals(HttpStatus.OK.value(), response.getStatus());
         assertEquals(CURRENT_MATCH_ID, actual.getId());
+        Match readAfter = convertFormHttpResponse(mockMvc.perform(get("/matches/3"))
+                .andReturn()
+                .getResponse());
+        assertEquals(scoreBefore + 1, readAfter.getTeamB().getScore());
+    }
+
+    @Test
+    void add_goals_async_ok() throws Exception {
+        int matchId = saveMatch().getId();
+        MockHttpServletResponse response = mockMvc.perform(
+                        post("/matches/" + matchId + "/goals/async")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(List.of(playerScorerToCreate().toBuilder()
+                                        .player(player3())
+                                        .build()))))
+                .andExpect(status().isAccepted())
+                .andReturn()
+                .getResponse();
+        GoalTicket ticket = objectMapper.readValue(response.getContentAsString(), GoalTicket.class);
+        assertEquals("PENDING", ticket.getStatus());
+        assertEquals("/goal-tickets/" + ticket.getId(), response.getHeader("Location"));
+
+        for (int i = 0; i < 100 && "PENDING".equals(ticket.getStatus()); i++) {
+            Thread.sleep(50);
+            ticket = objectMapper.readValue(mockMvc.perform(get("/goal-tickets/" + ticket.getId()))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString(), GoalTicket.class);
+        }
+
+        assertEquals("COMMITTED", ticket.getStatus());
+        Match stored = convertFormHttpResponse(mockMvc.perform(get("/matches/" + matchId))
+                .andReturn()
+                .getResponse());
+        assertEquals(1, stored.getTeamB().getScore());
+    }
+
+    @Test
+    void add_goals_with_idempotency_key_ok() throws Exception {
+        int matchId = saveMatch().getId();
+        String goals = objectMapper.writeValueAsString(List.of(playerScorerToCreate().toBuilder()
+                .player(player3())
+                .build()));
+
+        Match first = convertFormHttpResponse(mockMvc.perform(post("/matches/" + matchId + "/goals")
+                        .header("Idempotency-Key", "goals-" + matchId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(goals))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse());
+        Match replayed = convertFormHttpResponse(mockMvc.perform(post("/matches/" + matchId + "/goals")
+                        .header("Idempotency-Key", "goals-" + matchId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(goals))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse());
+
+        assertEquals(first, replayed);
+        assertEquals(1, replayed.getTeamB().getScore());
+        Match stored = convertFormHttpResponse(mockMvc.perform(get("/matches/" + matchId))
+                .andReturn()
+                .getResponse());
+        assertEquals(1, stored.getTeamB().getScore());
+        assertEquals(1, stored.getTeamB().getScorers().size());
+    }
+
+    @Test
+    void add_goals_with_stored_idempotency_key_only_reads_match() {
+        int matchId = saveMatch().getId();
+        List<app.foot.model.PlayerScorer> goals = List.of(app.foot.model.PlayerScorer.builder()
+                .player(app.foot.model.Player.builder().id(3).build())
+                .minute(10)
+                .isOwnGoal(false)
+                .build());
+
+        matchService.addGoals(matchId, goals, "stored-" + matchId);
+        app.foot.model.Match replayed = matchService.addGoals(matchId, goals, "stored-" + matchId);
+
+        assertEquals(1, replayed.getTeamB().getScore());
+        assertEquals(1, replayed.getTeamB().getScorers().size());
+    }
+
+    @Test
+    void add_goals_replayed_while_first_submission_is_written_reads_its_goals() throws Exception {
+        int matchId = saveMatch().getId();
+        List<app.foot.model.PlayerScorer> goals = List.of(app.foot.model.PlayerScorer.builder()
+                .player(app.foot.model.Player.builder().id(3).build())
+                .minute(10)
+                .isOwnGoal(false)
+                .build());
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        // the replay goes straight to the database, as once the first response is evicted from memory
+        CompletableFuture<app.foot.model.Match> first = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    app.foot.model.Match match = matchService.addGoals(matchId, goals, "in-flight-" + matchId);
+                    written.countDown();
+                    try {
+                        commit.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return match;
+                }));
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        CompletableFuture<app.foot.model.Match> replayed = CompletableFuture.supplyAsync(() ->
+                matchService.addGoals(matchId, goals, "in-flight-" + matchId));
+        Thread.sleep(200);
+        assertFalse(replayed.isDone());
+        commit.countDown();
+
+        assertEquals(1, first.get(5, TimeUnit.SECONDS).getTeamB().getScore());
+        assertEquals(first.get(), replayed.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void read_unknown_goal_ticket_ko() throws Exception {
+        mockMvc.perform(get("/goal-tickets/unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void add_many_goals_in_a_few_statements() throws Exception {
+        int matchId = saveMatch().getId();
+        List<PlayerScorer> scorers = IntStream.rangeClosed(1, 50)
+                .mapToObj(minute -> playerScorerToCreate().toBuilder()
+                        .player(player3())
+                        .scoreTime(minute)
+                        .build())
+                .toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        MockHttpServletResponse response = mockMvc.perform(
+                        post("/matches/" + matchId + "/goals")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(scorers)))
+                .andReturn()
+                .getResponse();
+
+        Match actual = convertFormHttpResponse(response);
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(50, actual.getTeamB().getScore());
+        assertEquals(50, actual.getTeamB().getScorers().size());
+        // one of them validates all the goals before the write transaction
+        assertTrue(statistics.getPrepareStatementCount() <= 7);
+        Match stored = convertFormHttpResponse(mockMvc.perform(get("/matches/" + matchId))
+                .andReturn()
+                .getResponse());
+        assertEquals(0, stored.getTeamA().getScore());
+        assertEquals(50, stored.getTeamB().getScore());
+    }
+
+    @Test
+    void add_goals_reads_players_from_second_level_cache() throws Exception {
+        int matchId = saveMatch().getId();
+        PlayerScorer goal = playerScorerToCreate().toBuilder().player(player3()).build();
+        mockMvc.perform(post("/matches/" + matchId + "/goals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(goal))))
+                .andExpect(status().isOk());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // the scores updated by the first goal must not have evicted the cached players,
+        // and the scorers of another match are not already loaded with it
+        mockMvc.perform(post("/matches/" + saveMatch().getId() + "/goals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(goal))))
+                .andExpect(status().isOk());
+
+        assertEquals(1, statistics.getDomainDataRegionStatistics("player").getHitCount());
+        assertEquals(0, statistics.getDomainDataRegionStatistics("player").getMissCount());
+    }
+
+    @Test
+    void read_matches_scores_only_ok() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/matches")
+                        .param("pageSize", "1")
+                        .param("withScorers", "false"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        Match actual = convertToMatches(response).get(0);
+        assertEquals(1, actual.getId());
+        assertEquals(4, actual.getTeamA().getScore());
+        assertEquals(2, actual.getTeamB().getScore());
+        assertNull(actual.getTeamA().getScorers());
+        assertNull(actual.getTeamB().getScorers());
+    }
+
+    @Test
+    void read_matches_by_filter_ok() throws Exception {
+        MockHttpServletResponse byTeam = mockMvc.perform(get("/matches")
+                        .param("teamId", "3")
+                        .param("from", "2023-01-01T00:00:00Z")
+                        .param("to", "2023-01-02T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        MockHttpServletResponse byStadium = mockMvc.perform(get("/matches")
+                        .param("stadium", "S2")
+                        .param("to", "2023-01-02T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertEquals(List.of(2, 3), convertToMatches(byTeam).stream().map(Match::getId).toList());
+        assertEquals(List.of(expectedMatch2()), convertToMatches(byStadium));
+    }
+
+    @Test
+    void count_matches_by_filter_ok() throws Exception {
+        String count = mockMvc.perform(get("/matches/count")
+                        .param("teamId", "3")
+                        .param("from", "2023-01-01T00:00:00Z")
+                        .param("to", "2023-01-02T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertEquals("2", count);
+    }
+
+    @Test
+    void count_matches_with_inverted_dates_ko() {
+        Exception exception = assertThrows(Exception.class, () -> mockMvc.perform(get("/matches/count")
+                .param("from", "2023-01-02T00:00:00Z")
+                .param("to", "2023-01-01T00:00:00Z")));
+
+        assertEquals(BadRequestException.class, exception.getCause().getClass());
+        assertEquals("400 BAD_REQUEST : Date from 2023-01-02T00:00:00Z must be before date to 2023-01-01T00:00:00Z.",
+                exception.getCause().getMessage());
     }
 
     @Test
@@ -89,6 +536,96 @@ class MatchIntegrationTest {
         assertNull(response);
     }
 
+    @Test
+    void add_goals_reports_every_invalid_goal_ko() throws Exception {
+        int matchId = saveMatch().getId();
+        List<PlayerScorer> scorers = List.of(
+                playerScorerToCreate().toBuilder()
+                        .player(Player.builder().id(7).isGuardian(false).build())
+                        .build(),
+                playerScorerToCreate(),
+                playerScorerToCreate().toBuilder().player(player3()).scoreTime(10).build(),
+                playerScorerToCreate().toBuilder().player(player3()).scoreTime(10).build(),
+                playerScorerToCreate().toBuilder().player(player3()).scoreTime(91).build());
+        String content = objectMapper.writeValueAsString(scorers);
+
+        Exception exception = assertThrows(Exception.class, () -> mockMvc.perform(
+                post("/matches/" + matchId + "/goals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content)));
+
+        assertEquals(BadRequestException.class, exception.getCause().getClass());
+        assertEquals("400 BAD_REQUEST : Player#7 is a guardian so they cannot score."
+                        + " Player#6 does not play in Match#" + matchId + "."
+                        + " Player#3 scores more than once at minute 10."
+                        + " Player#3 cannot score at minute 91, only from minute 0 to 90.",
+                exception.getCause().getMessage());
+        Match stored = convertFormHttpResponse(mockMvc.perform(get("/matches/" + matchId))
+                .andReturn()
+                .getResponse());
+        assertEquals(0, stored.getTeamB().getScore());
+    }
+
+    private MatchEntity saveMatch() {
+        return matchRepository.save(MatchEntity.builder()
+                .teamA(teamRepository.findById(1).get())
+                .teamB(teamRepository.findById(2).get())
+                .stadium("S1")
+                .datetime(Instant.parse("2023-01-02T10:00:00Z"))
+                .build());
+    }
+
+    private PlayerEntity saveGoalOfNewPlayer(MatchEntity match) {
+        PlayerEntity scorer = playerRepository.save(PlayerEntity.builder()
+                .name("Scorer " + match.getId())
+                .team(match.getTeamA())
+                .build());
+        playerScoreRepository.save(PlayerScoreEntity.builder()
+                .match(match)
+                .player(scorer)
+                .minute(10)
+                .ownGoal(false)
+                .build());
+        return scorer;
+    }
+
+    private void renamePlayer(PlayerEntity player, String name) throws Exception {
+        mockMvc.perform(put("/players")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(Player.builder()
+                                .id(player.getId())
+                                .name(name)
+                                .isGuardian(player.isGuardian())
+                                .build()))))
+                .andExpect(status().isOk());
+    }
+
+    private void saveMatchWithGoals() {
+        MatchEntity match = saveMatch();
+        playerScoreRepository.saveAll(List.of(
+                PlayerScoreEntity.builder()
+                        .match(match)
+                        .player(playerRepository.findById(1).get())
+                        .minute(10)
+                        .ownGoal(false)
+                        .build(),
+                PlayerScoreEntity.builder()
+                        .match(match)
+                        .player(playerRepository.findById(3).get())
+                        .minute(20)
+                        .ownGoal(false)
+                        .build()));
+    }
+
+    private List<Match> convertToMatches(MockHttpServletResponse response) throws JsonProcessingException, UnsupportedEncodingException {
+        JavaType constructType = objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, Match.class);
+        return objectMapper.readValue(
+                response.getContentAsString(),
+                constructType
+        );
+    }
+
     private Match convertFormHttpResponse(MockHttpServletResponse response) throws JsonProcessingException, UnsupportedEncodingException {
         JavaType constructType = objectMapper.getTypeFactory()
                 .constructType(Match.class);
@@ -170,6 +707,7 @@ class MatchIntegrationTest {
                 .id(6)
                 .name("J6")
                 .isGuardian(false)
+                .teamName("E3")
                 .build();
     }
 
@@ -178,6 +716,7 @@ class MatchIntegrationTest {
                 .id(3)
                 .name("J3")
                 .isGuardian(false)
+                .teamName("E2")
                 .build();
     }
 
@@ -1,8 +1,18 @@
 package integration;
 
 import app.foot.FootApi;
+import app.foot.controller.rest.GoalMinuteRange;
 import app.foot.controller.rest.Player;
+import app.foot.controller.rest.PlayerScorer;
+import app.foot.controller.rest.PlayerStats;
+import app.foot.controller.rest.mapper.CursorRestMapper;
 import app.foot.exception.BadRequestException;
+import app.foot.model.MatchFilter;
+import app.foot.repository.MatchRepository;
+import app.foot.repository.PlayerRepository;
+import app.foot.repository.TeamRepository;
+import app.foot.repository.entity.MatchEntity;
+import app.foot.repository.entity.PlayerEntity;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.CollectionType;
@@ -16,11 +26,15 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.io.UnsupportedEncodingException;
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -32,6 +46,12 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 class PlayerIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private TeamRepository teamRepository;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     Player modifiedPlayer1() {
@@ -53,6 +73,7 @@ class PlayerIntegrationTest {
                 .id(1)
                 .name("J1")
                 .isGuardian(false)
+                .teamName("E1")
                 .build();
     }
 
@@ -61,6 +82,7 @@ class PlayerIntegrationTest {
                 .id(2)
                 .name("J2")
                 .isGuardian(false)
+                .teamName("E1")
                 .build();
     }
 
@@ -69,6 +91,7 @@ class PlayerIntegrationTest {
                 .id(3)
                 .name("J3")
                 .isGuardian(false)
+                .teamName("E2")
                 .build();
     }
 
@@ -88,6 +111,29 @@ class PlayerIntegrationTest {
                 player3())));
     }
 
+    @Test
+    void read_players_by_page_ok() throws Exception {
+        MockHttpServletResponse firstPage = mockMvc
+                .perform(get("/players").param("pageSize", "2"))
+                .andReturn()
+                .getResponse();
+        String nextCursor = firstPage.getHeader(CursorRestMapper.NEXT_CURSOR_HEADER);
+        MockHttpServletResponse secondPage = mockMvc
+                .perform(get("/players")
+                        .param("pageSize", "2")
+                        .param("cursor", nextCursor))
+                .andReturn()
+                .getResponse();
+
+        assertEquals(HttpStatus.OK.value(), firstPage.getStatus());
+        assertEquals(List.of(1, 2), convertFromHttpResponse(firstPage).stream()
+                .map(Player::getId)
+                .toList());
+        assertEquals(List.of(3, 4), convertFromHttpResponse(secondPage).stream()
+                .map(Player::getId)
+                .toList());
+    }
+
     @Test
     void create_players_ok() throws Exception {
         Player toCreate = Player.builder()
@@ -108,6 +154,46 @@ class PlayerIntegrationTest {
         assertEquals(toCreate, actual.get(0).toBuilder().id(null).build());
     }
 
+    @Test
+    void create_players_with_unknown_team_ko() throws Exception {
+        Player valid = Player.builder()
+                .name("Valid Doe")
+                .isGuardian(false)
+                .teamName("E1")
+                .build();
+        Player unknownTeam = valid.toBuilder()
+                .name("Unknown Doe")
+                .teamName("E404")
+                .build();
+
+        Exception exception = assertThrows(Exception.class, () -> mockMvc.perform(post("/players")
+                .content(objectMapper.writeValueAsString(List.of(valid, unknownTeam)))
+                .contentType("application/json")));
+
+        assertEquals(BadRequestException.class, exception.getCause().getClass());
+        assertEquals("400 BAD_REQUEST : Teams [E404] do not exist.", exception.getCause().getMessage());
+        List<Player> players = convertFromHttpResponse(mockMvc
+                .perform(get("/players").param("pageSize", "500"))
+                .andReturn()
+                .getResponse());
+        assertTrue(players.stream().noneMatch(player -> "Valid Doe".equals(player.getName())));
+    }
+
+    @Test
+    void create_players_without_team_ko() {
+        Player withoutTeam = Player.builder()
+                .name("Teamless Doe")
+                .isGuardian(false)
+                .build();
+
+        Exception exception = assertThrows(Exception.class, () -> mockMvc.perform(post("/players")
+                .content(objectMapper.writeValueAsString(List.of(withoutTeam)))
+                .contentType("application/json")));
+
+        assertEquals(BadRequestException.class, exception.getCause().getClass());
+        assertEquals("400 BAD_REQUEST : Teams [null] do not exist.", exception.getCause().getMessage());
+    }
+
     @Test
     void update_players_ok() throws Exception {
         MockHttpServletResponse response = mockMvc.perform(
@@ -122,6 +208,23 @@ class PlayerIntegrationTest {
         assertNotEquals(modifiedPlayer1(), players.get(0));
     }
 
+    @Test
+    void update_players_updates_cached_players() throws Exception {
+        String originalName = playerRepository.findById(5).orElseThrow().getName();
+        Player renamed = Player.builder().id(5).name("Renamed").isGuardian(false).build();
+
+        mockMvc.perform(put("/players")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(renamed))));
+        String cachedName = playerRepository.findById(5).orElseThrow().getName();
+        mockMvc.perform(put("/players")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(renamed.toBuilder().name(originalName).build()))));
+
+        assertEquals("Renamed", cachedName);
+        assertEquals(originalName, playerRepository.findById(5).orElseThrow().getName());
+    }
+
     @Test
     void update_players_ko() {
         MockHttpServletResponse response = null;
@@ -140,6 +243,143 @@ class PlayerIntegrationTest {
 
     }
 
+    @Test
+    void update_players_ko_reports_every_missing_player() {
+        Exception exception = assertThrows(Exception.class, () -> mockMvc.perform(
+                put("/players")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                modifiedPlayerWithInvalidId(),
+                                player2(),
+                                modifiedPlayerWithInvalidId().toBuilder().id(10001).build())))));
+
+        assertEquals(BadRequestException.class, exception.getCause().getClass());
+        assertEquals("400 BAD_REQUEST : Players [10000, 10001] do not exist.", exception.getCause().getMessage());
+    }
+
+    @Test
+    void read_player_stats_ok() throws Exception {
+        int playerId = saveStatsPlayer();
+        int matchId = saveStatsMatch();
+        addGoals(matchId, scorer(playerId, 10, false), scorer(playerId, 89, false),
+                scorer(playerId, 90, false), scorer(playerId, 30, true));
+
+        PlayerStats actual = readStats(playerId);
+
+        long matchesPlayed = matchRepository.count(MatchFilter.builder().teamId(3).to(Instant.now()).build());
+        assertEquals(playerId, actual.getPlayer().getId());
+        assertEquals("E3", actual.getPlayer().getTeamName());
+        assertEquals(3, actual.getGoals());
+        assertEquals(1, actual.getOwnGoals());
+        assertEquals(1, actual.getMatchesScoredIn());
+        assertEquals(matchesPlayed, actual.getMatchesPlayed());
+        assertEquals(3.0 / matchesPlayed, actual.getGoalsPerMatch());
+        assertEquals(List.of(
+                        new GoalMinuteRange(0, 14, 1),
+                        new GoalMinuteRange(15, 29, 0),
+                        new GoalMinuteRange(30, 44, 0),
+                        new GoalMinuteRange(45, 59, 0),
+                        new GoalMinuteRange(60, 74, 0),
+                        new GoalMinuteRange(75, 90, 2)),
+                actual.getGoalsByMinute());
+    }
+
+    @Test
+    void player_stats_follow_added_goals() throws Exception {
+        int playerId = saveStatsPlayer();
+        int matchId = saveStatsMatch();
+        PlayerStats before = readStats(playerId);
+
+        addGoals(matchId, scorer(playerId, 45, false));
+
+        PlayerStats after = readStats(playerId);
+        assertEquals(0, before.getGoals());
+        assertEquals(1, after.getGoals());
+        assertEquals(1, after.getMatchesScoredIn());
+        assertEquals(new GoalMinuteRange(45, 59, 1), after.getGoalsByMinute().get(3));
+    }
+
+    @Test
+    void read_players_stats_ok() throws Exception {
+        int playerId = saveStatsPlayer();
+        MockHttpServletResponse response = mockMvc
+                .perform(get("/players/stats").param("ids", playerId + ",2," + playerId))
+                .andReturn()
+                .getResponse();
+        List<PlayerStats> actual = objectMapper.readValue(response.getContentAsString(),
+                objectMapper.getTypeFactory().constructCollectionType(List.class, PlayerStats.class));
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(List.of(playerId, 2), actual.stream().map(stats -> stats.getPlayer().getId()).toList());
+        assertEquals(0, actual.get(0).getGoals());
+        assertEquals(1, actual.get(1).getOwnGoals());
+    }
+
+    @Test
+    void read_players_stats_ko() {
+        String tooManyIds = IntStream.rangeClosed(1, 501)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        Exception unknown = assertThrows(Exception.class, () -> mockMvc
+                .perform(get("/players/stats").param("ids", "2,10000")));
+        Exception tooMany = assertThrows(Exception.class, () -> mockMvc
+                .perform(get("/players/stats").param("ids", tooManyIds)));
+        Exception missing = assertThrows(Exception.class, () -> mockMvc
+                .perform(get("/players/stats")));
+        Exception blank = assertThrows(Exception.class, () -> mockMvc
+                .perform(get("/players/stats").param("ids", "2,,3")));
+
+        assertEquals("Player#10000 not found.", unknown.getCause().getMessage());
+        assertEquals(BadRequestException.class, tooMany.getCause().getClass());
+        assertEquals("400 BAD_REQUEST : At most 500 players can be requested at once.",
+                tooMany.getCause().getMessage());
+        assertEquals("400 BAD_REQUEST : Player ids are required.", missing.getCause().getMessage());
+        assertEquals("400 BAD_REQUEST : Player ids are required.", blank.getCause().getMessage());
+    }
+
+    private int saveStatsPlayer() {
+        return playerRepository.save(PlayerEntity.builder()
+                .name("Stats player")
+                .team(teamRepository.findById(3).get())
+                .guardian(false)
+                .build()).getId();
+    }
+
+    private int saveStatsMatch() {
+        return matchRepository.save(MatchEntity.builder()
+                .teamA(teamRepository.findById(1).get())
+                .teamB(teamRepository.findById(3).get())
+                .stadium("S3")
+                .datetime(Instant.parse("2023-01-03T18:00:00Z"))
+                .build()).getId();
+    }
+
+    private static PlayerScorer scorer(int playerId, int minute, boolean ownGoal) {
+        return PlayerScorer.builder()
+                .player(Player.builder().id(playerId).build())
+                .scoreTime(minute)
+                .isOG(ownGoal)
+                .build();
+    }
+
+    private void addGoals(int matchId, PlayerScorer... scorers) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(post("/matches/" + matchId + "/goals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(scorers))))
+                .andReturn()
+                .getResponse();
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+    }
+
+    private PlayerStats readStats(int playerId) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/players/" + playerId + "/stats"))
+                .andReturn()
+                .getResponse();
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        return objectMapper.readValue(response.getContentAsString(), PlayerStats.class);
+    }
+
     private List<Player> convertFromHttpResponse(MockHttpServletResponse response)
             throws JsonProcessingException, UnsupportedEncodingException {
         CollectionType playerListType = objectMapper.getTypeFactory()
@@ -0,0 +1,216 @@
+package integration;
+
+import app.foot.FootApi;
+import app.foot.model.MatchCursor;
+import app.foot.model.MatchFilter;
+import app.foot.repository.MatchRepository;
+import app.foot.repository.PlayerRepository;
+import app.foot.repository.PlayerScoreRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Explains the generic plan of each hot query, the one Postgres reuses for a prepared statement
+ * whatever its parameters, against a large dataset: a sequential scan of a large table fails the test.
+ */
+@SpringBootTest(classes = FootApi.class, properties = {
+        "spring.datasource.hikari.schema=" + QueryPlanIntegrationTest.SCHEMA,
+        "spring.flyway.schemas=" + QueryPlanIntegrationTest.SCHEMA,
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "integration.QueryPlanIntegrationTest$SqlRecorder"})
+class QueryPlanIntegrationTest {
+    static final String SCHEMA = "query_plan";
+    private static final Set<String> LARGE_TABLES = Set.of("match", "player_score", "player");
+    private static final int TEAM_COUNT = 100;
+    private static final int PLAYER_COUNT = 20_000;
+    private static final int MATCH_COUNT = 100_000;
+    private static final int GOALS_PER_MATCH = 5;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private PlayerScoreRepository playerScoreRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void seed() {
+        seedUpTo("team", TEAM_COUNT, "insert into team (\"name\")"
+                + " select 'Plan team ' || i from generate_series(1, ?) i");
+        seedUpTo("player", PLAYER_COUNT, "insert into player (\"name\", id_team, guardian)"
+                + " select 'Plan player ' || i, t.ids[1 + i % array_length(t.ids, 1)], i % 11 = 0"
+                + " from generate_series(1, ?) i, (select array_agg(id) ids from team) t");
+        seedUpTo("match", MATCH_COUNT, "insert into match (id_team_A, id_team_B, stadium, \"datetime\")"
+                + " select t.ids[1 + i % array_length(t.ids, 1)], t.ids[1 + (i + 1) % array_length(t.ids, 1)],"
+                + " 'Plan stadium ' || i % 50, timestamp '2020-01-01' + i * interval '1 hour'"
+                + " from generate_series(1, ?) i, (select array_agg(id) ids from team) t");
+        seedUpTo("player_score", MATCH_COUNT * GOALS_PER_MATCH, "insert into player_score"
+                + " (id_match, id_player, \"minute\", own_goal)"
+                + " select m.id, p.ids[1 + (m.id * 7 + g) % array_length(p.ids, 1)], (m.id + g * 17) % 91, g = 1"
+                + " from (select id from match order by id limit ? / " + GOALS_PER_MATCH + ") m,"
+                + " generate_series(1, " + GOALS_PER_MATCH + ") g, (select array_agg(id) ids from player) p");
+    }
+
+    @Test
+    void read_match_by_id_uses_indexes() {
+        assertNoLargeSeqScan(() -> matchRepository.findById(1));
+    }
+
+    @Test
+    void read_match_pages_use_indexes() {
+        List<Integer> ids = List.of(1, 2, 3);
+        MatchCursor after = new MatchCursor(Instant.parse("2023-01-01T00:00:00Z"), 1);
+        assertNoLargeSeqScan(() -> matchRepository.findPageIds(new MatchFilter(), null, 100));
+        assertNoLargeSeqScan(() -> matchRepository.findPageIds(new MatchFilter(), after, 100));
+        assertNoLargeSeqScan(() -> matchRepository.findRowsByIdIn(ids));
+        assertNoLargeSeqScan(() -> playerScoreRepository.findRowsByMatchIdIn(ids));
+        assertNoLargeSeqScan(() -> playerScoreRepository.findAllByMatchIdIn(ids));
+    }
+
+    @Test
+    void search_matches_uses_indexes() {
+        Instant from = Instant.parse("2023-01-01T00:00:00Z");
+        Instant to = Instant.parse("2023-02-01T00:00:00Z");
+        MatchCursor after = new MatchCursor(from, 1);
+        List<MatchFilter> filters = List.of(
+                MatchFilter.builder().teamId(1).build(),
+                MatchFilter.builder().teamId(1).from(from).to(to).build(),
+                MatchFilter.builder().from(from).to(to).build(),
+                MatchFilter.builder().stadium("Plan stadium 1").build(),
+                MatchFilter.builder().stadium("Plan stadium 1").from(from).build());
+        for (MatchFilter filter : filters) {
+            assertNoLargeSeqScan(() -> matchRepository.findPageIds(filter, null, 100));
+            assertNoLargeSeqScan(() -> matchRepository.findPageIds(filter, after, 100));
+            assertNoLargeSeqScan(() -> matchRepository.count(filter));
+        }
+    }
+
+    @Test
+    void add_goals_queries_use_indexes() {
+        assertNoLargeSeqScan(() -> matchRepository.findGoalScorerChecks(1, List.of(1, 2, 3)));
+        assertNoLargeSeqScan(() -> matchRepository.findScoresById(1));
+        assertNoLargeSeqScan(() -> playerRepository.findAllByIdIn(List.of(1, 2, 3)));
+    }
+
+    @Test
+    void update_players_queries_use_indexes() {
+        assertNoLargeSeqScan(() -> matchRepository.addVersionsByScorerIdIn(List.of(1, 2, 3)));
+        assertNoLargeSeqScan(() -> matchRepository.findVersionsByScorerIdIn(List.of(1, 2, 3)));
+    }
+
+    @Test
+    void read_player_stats_uses_indexes() {
+        assertNoLargeSeqScan(() -> playerScoreRepository.findStatsByPlayerIdIn(List.of(1, 2, 3)));
+    }
+
+    @Test
+    void read_player_pages_use_indexes() {
+        assertNoLargeSeqScan(() -> playerRepository.findFirstPageRows(PageRequest.ofSize(100)));
+        assertNoLargeSeqScan(() -> playerRepository.findPageRowsAfter(100, PageRequest.ofSize(100)));
+    }
+
+    private void seedUpTo(String table, int count, String insert) {
+        Integer existing = jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class);
+        if (existing < count) {
+            jdbcTemplate.update(insert, count - existing);
+            jdbcTemplate.execute("analyze " + table);
+        }
+    }
+
+    private void assertNoLargeSeqScan(Runnable repositoryCall) {
+        List<String> statements = transactionTemplate.execute(status -> {
+            SqlRecorder.STATEMENTS.clear();
+            repositoryCall.run();
+            return List.copyOf(SqlRecorder.STATEMENTS);
+        });
+        assertFalse(statements.isEmpty());
+        for (String sql : statements) {
+            JsonNode plan = explainGenericPlan(sql);
+            List<String> seqScans = new ArrayList<>();
+            collectLargeSeqScans(plan.get(0).get("Plan"), seqScans);
+            if (!seqScans.isEmpty()) {
+                fail("Sequential scan of " + seqScans + " for " + sql + "\n" + plan.toPrettyString());
+            }
+        }
+    }
+
+    /*
+     * The generic plan does not depend on the parameters, which are all left null.
+     */
+    private JsonNode explainGenericPlan(String sql) {
+        StringBuilder prepared = new StringBuilder();
+        int parameterCount = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                prepared.append('$').append(++parameterCount);
+            } else {
+                prepared.append(c);
+            }
+        }
+        String execute = parameterCount == 0 ? "execute plan_check"
+                : "execute plan_check(" + String.join(", ", Collections.nCopies(parameterCount, "null")) + ")";
+        String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("set plan_cache_mode = force_generic_plan");
+                statement.execute("prepare plan_check as " + prepared);
+                try (ResultSet result = statement.executeQuery("explain (format json) " + execute)) {
+                    result.next();
+                    return result.getString(1);
+                } finally {
+                    statement.execute("deallocate plan_check");
+                    statement.execute("reset plan_cache_mode");
+                }
+            }
+        });
+        try {
+            return objectMapper.readTree(plan);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void collectLargeSeqScans(JsonNode node, List<String> seqScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())
+                && LARGE_TABLES.contains(node.path("Relation Name").asText())) {
+            seqScans.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectLargeSeqScans(child, seqScans);
+        }
+    }
+
+    public static class SqlRecorder implements StatementInspector {
+        static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package integration;
+
+import app.foot.FootApi;
+import app.foot.controller.rest.Player;
+import app.foot.controller.rest.PlayerScorer;
+import app.foot.controller.rest.TopScorer;
+import app.foot.exception.BadRequestException;
+import app.foot.service.TopScorerService;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = FootApi.class)
+@AutoConfigureMockMvc
+class ScorerIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private TopScorerService topScorerService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void top_scorers_follow_added_goals() throws Exception {
+        // goals committed through other application contexts of the test suite are not seen incrementally
+        topScorerService.rebuild();
+        int goalsBefore = goalsOfPlayer6(readTopScorers(3));
+
+        mockMvc.perform(post("/matches/3/goals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                scorer(10, false), scorer(20, false), scorer(30, true)))))
+                .andExpect(status().isOk());
+
+        List<app.foot.model.TopScorer> incremental = topScorerService.getTopScorers(500, null);
+        topScorerService.rebuild();
+        assertEquals(topScorerService.getTopScorers(500, null), incremental);
+        assertEquals(goalsBefore + 2, goalsOfPlayer6(readTopScorers(3)));
+    }
+
+    @Test
+    void read_top_scorers_ok() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/scorers/top")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        List<TopScorer> actual = convertToTopScorers(response);
+
+        assertEquals(2, actual.size());
+        assertTrue(actual.get(0).getGoals() >= actual.get(1).getGoals());
+    }
+
+    @Test
+    void read_top_scorers_of_unknown_team_ko() {
+        Exception exception = assertThrows(Exception.class, () -> mockMvc.perform(get("/scorers/top")
+                .param("teamId", "404")));
+
+        assertEquals(BadRequestException.class, exception.getCause().getClass());
+        assertEquals("400 BAD_REQUEST : Team#404 does not exist.", exception.getCause().getMessage());
+    }
+
+    private List<TopScorer> readTopScorers(int teamId) throws Exception {
+        return convertToTopScorers(mockMvc.perform(get("/scorers/top")
+                        .param("teamId", String.valueOf(teamId)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse());
+    }
+
+    private List<TopScorer> convertToTopScorers(MockHttpServletResponse response) throws Exception {
+        JavaType type = objectMapper.getTypeFactory().constructCollectionType(List.class, TopScorer.class);
+        return objectMapper.readValue(response.getContentAsString(), type);
+    }
+
+    private static int goalsOfPlayer6(List<TopScorer> scorers) {
+        return scorers.stream()
+                .filter(scorer -> scorer.getPlayer().getId() == 6)
+                .mapToInt(TopScorer::getGoals)
+                .findFirst()
+                .orElse(0);
+    }
+
+    private static PlayerScorer scorer(int minute, boolean ownGoal) {
+        return PlayerScorer.builder()
+                .player(Player.builder()
+                        .id(6)
+                        .name("J6")
+                        .isGuardian(false)
+                        .teamName("E3")
+                        .build())
+                .scoreTime(minute)
+                .isOG(ownGoal)
+                .build();
+    }
+}
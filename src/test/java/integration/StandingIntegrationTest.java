@@ -0,0 +1,157 @@
+package integration;
+
+import app.foot.FootApi;
+import app.foot.controller.rest.Player;
+import app.foot.controller.rest.PlayerScorer;
+import app.foot.controller.rest.Standing;
+import app.foot.repository.MatchRepository;
+import app.foot.repository.TeamRepository;
+import app.foot.repository.entity.MatchEntity;
+import app.foot.service.StandingService;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = FootApi.class)
+@AutoConfigureMockMvc
+class StandingIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private StandingService standingService;
+    @Autowired
+    private MatchRepository matchRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void standings_follow_added_goals() throws Exception {
+        MatchEntity match = matchRepository.save(MatchEntity.builder()
+                .teamA(teamRepository.findById(2).get())
+                .teamB(teamRepository.findById(3).get())
+                .stadium("S3")
+                .datetime(Instant.parse("2023-01-03T10:00:00Z"))
+                .build());
+        // goals committed through other application contexts of the test suite are not seen incrementally
+        standingService.rebuild();
+        app.foot.model.Standing before = standingOf("E3", standingService.getStandings());
+
+        mockMvc.perform(post("/matches/" + match.getId() + "/goals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                scorer(10, false), scorer(20, false), scorer(30, true)))))
+                .andExpect(status().isOk());
+
+        List<app.foot.model.Standing> actual = standingService.getStandings();
+        app.foot.model.Standing after = standingOf("E3", actual);
+        assertEquals(standingService.compute(), actual);
+        assertEquals(before.getPlayed(), after.getPlayed());
+        assertEquals(before.getWon() + 1, after.getWon());
+        assertEquals(before.getDrawn() - 1, after.getDrawn());
+        assertEquals(before.getPoints() + 2, after.getPoints());
+        assertEquals(before.getGoalsFor() + 2, after.getGoalsFor());
+        assertEquals(before.getGoalsAgainst() + 1, after.getGoalsAgainst());
+    }
+
+    @Test
+    void standings_count_goals_of_future_matches() throws Exception {
+        MatchEntity match = matchRepository.save(MatchEntity.builder()
+                .teamA(teamRepository.findById(2).get())
+                .teamB(teamRepository.findById(3).get())
+                .stadium("S3")
+                .datetime(Instant.parse("2100-01-01T10:00:00Z"))
+                .build());
+        standingService.rebuild();
+        app.foot.model.Standing before = standingOf("E3", standingService.getStandings());
+
+        mockMvc.perform(post("/matches/" + match.getId() + "/goals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(scorer(10, false)))))
+                .andExpect(status().isOk());
+
+        List<app.foot.model.Standing> actual = standingService.getStandings();
+        assertEquals(standingService.compute(), actual);
+        assertEquals(before.getPlayed() + 1, standingOf("E3", actual).getPlayed());
+        standingService.rebuild();
+        assertEquals(actual, standingService.getStandings());
+    }
+
+    @Test
+    void standings_ignore_empty_goal_batches() throws Exception {
+        MatchEntity match = matchRepository.save(MatchEntity.builder()
+                .teamA(teamRepository.findById(2).get())
+                .teamB(teamRepository.findById(3).get())
+                .stadium("S3")
+                .datetime(Instant.parse("2100-01-02T10:00:00Z"))
+                .build());
+        standingService.rebuild();
+        List<app.foot.model.Standing> before = standingService.getStandings();
+
+        mockMvc.perform(post("/matches/" + match.getId() + "/goals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isOk());
+
+        List<app.foot.model.Standing> actual = standingService.getStandings();
+        assertEquals(before, actual);
+        assertEquals(standingService.compute(), actual);
+        standingService.rebuild();
+        assertEquals(actual, standingService.getStandings());
+    }
+
+    @Test
+    void read_standings_ok() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/standings"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        JavaType type = objectMapper.getTypeFactory().constructCollectionType(List.class, Standing.class);
+        List<Standing> actual = objectMapper.readValue(response.getContentAsString(), type);
+
+        List<app.foot.model.Standing> expected = standingService.getStandings();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getTeam().getName(), actual.get(i).getTeam().getName());
+            assertEquals(expected.get(i).getPoints(), actual.get(i).getPoints());
+        }
+        for (int i = 1; i < actual.size(); i++) {
+            assertTrue(actual.get(i - 1).getPoints() >= actual.get(i).getPoints());
+        }
+    }
+
+    private static app.foot.model.Standing standingOf(String teamName, List<app.foot.model.Standing> standings) {
+        return standings.stream()
+                .filter(standing -> standing.getTeam().getName().equals(teamName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static PlayerScorer scorer(int minute, boolean ownGoal) {
+        return PlayerScorer.builder()
+                .player(Player.builder()
+                        .id(6)
+                        .name("J6")
+                        .isGuardian(false)
+                        .teamName("E3")
+                        .build())
+                .scoreTime(minute)
+                .isOG(ownGoal)
+                .build();
+    }
+}
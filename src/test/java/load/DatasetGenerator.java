@@ -0,0 +1,231 @@
+package load;
+
+import lombok.Builder;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Replaces the teams, players, matches and goals of a schema with a generated dataset, loaded through COPY.
+ * The same settings always give the same rows.
+ */
+@Builder
+class DatasetGenerator {
+    private static final int COPY_BUFFER_SIZE = 1 << 20;
+    private static final LocalDateTime FIRST_KICK_OFF = LocalDateTime.of(2020, 1, 1, 15, 0);
+    private static final int OWN_GOAL_PERCENT = 5;
+    private static final int LAST_MINUTE = 90;
+    private static final String TABLES =
+            "array['team', 'player', 'match', 'player_score', 'goal_submission']::regclass[]";
+
+    @Builder.Default
+    private final long seed = 42;
+    @Builder.Default
+    private final int teams = 100;
+    @Builder.Default
+    private final int playersPerTeam = 25;
+    @Builder.Default
+    private final int matches = 10_000;
+    @Builder.Default
+    private final int goalsPerMatch = 5;
+
+    long goals() {
+        return (long) matches * goalsPerMatch;
+    }
+
+    String describe() {
+        return "seed=" + seed + " teams=" + teams + " playersPerTeam=" + playersPerTeam
+                + " matches=" + matches + " goalsPerMatch=" + goalsPerMatch;
+    }
+
+    // foreign keys and secondary indexes are dropped during the copy and created again afterwards
+    void load(Connection connection) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            List<String> recreated = dropConstraintsAndIndexes(connection);
+            copyAll(connection);
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : recreated) {
+                    statement.execute(sql);
+                }
+            }
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("analyze team, player, match, player_score");
+        }
+    }
+
+    private static List<String> dropConstraintsAndIndexes(Connection connection) throws SQLException {
+        List<String> drops = new ArrayList<>();
+        List<String> creates = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet constraints = statement.executeQuery("select conrelid::regclass, conname,"
+                    + " pg_get_constraintdef(oid) from pg_constraint"
+                    + " where contype = 'f' and conrelid = any (" + TABLES + ")")) {
+                while (constraints.next()) {
+                    String table = constraints.getString(1);
+                    String name = constraints.getString(2);
+                    drops.add("alter table " + table + " drop constraint " + name);
+                    creates.add("alter table " + table + " add constraint " + name + " " + constraints.getString(3));
+                }
+            }
+            try (ResultSet indexes = statement.executeQuery("select indexrelid::regclass, pg_get_indexdef(indexrelid)"
+                    + " from pg_index i where indrelid = any (" + TABLES + ") and not exists"
+                    + " (select 1 from pg_constraint c where c.conindid = i.indexrelid)")) {
+                while (indexes.next()) {
+                    drops.add("drop index " + indexes.getString(1));
+                    creates.add(0, indexes.getString(2));
+                }
+            }
+            for (String sql : drops) {
+                statement.execute(sql);
+            }
+            statement.execute("truncate goal_submission, player_score, match, player, team restart identity");
+        }
+        return creates;
+    }
+
+    private void copyAll(Connection connection) throws SQLException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+
+        copy(copyManager, "copy team (id, \"name\") from stdin", rows -> {
+            for (int team = 1; team <= teams; team++) {
+                rows.row(team, "Team " + team);
+            }
+        });
+        copy(copyManager, "copy player (id, \"name\", id_team, guardian) from stdin", rows -> {
+            for (int team = 1; team <= teams; team++) {
+                for (int index = 0; index < playersPerTeam; index++) {
+                    int id = playerId(team, index);
+                    rows.row(id, "Player " + id, team, index == 0);
+                }
+            }
+        });
+        copy(copyManager, "copy match (id, id_team_A, id_team_B, stadium, \"datetime\", score_a, score_b) from stdin",
+                rows -> {
+                    for (int id = 1; id <= matches; id++) {
+                        GeneratedMatch match = generate(id);
+                        rows.row(id, match.teamA, match.teamB, "Stadium " + match.teamA,
+                                FIRST_KICK_OFF.plusHours(id), match.scoreA, match.scoreB);
+                    }
+                });
+        copy(copyManager, "copy player_score (id, id_match, id_player, \"minute\", own_goal) from stdin", rows -> {
+            long goalId = 1;
+            for (int id = 1; id <= matches; id++) {
+                GeneratedMatch match = generate(id);
+                for (int goal = 0; goal < goalsPerMatch; goal++) {
+                    rows.row(goalId++, id, match.scorers[goal], match.minutes[goal], match.ownGoals[goal]);
+                }
+            }
+        });
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("select setval('team_id_seq', " + teams + ")");
+            statement.execute("select setval('player_id_seq', " + playerId(teams, playersPerTeam - 1) + ")");
+            statement.execute("select setval('match_id_seq', " + matches + ")");
+            // player_score ids are allocated 50 at a time, see V0_8
+            statement.execute("select setval('player_score_id_seq', " + (goals() + 50) + ", false)");
+        }
+    }
+
+    private int playerId(int team, int index) {
+        return (team - 1) * playersPerTeam + index + 1;
+    }
+
+    private GeneratedMatch generate(int id) {
+        SplittableRandom random = new SplittableRandom(seed * 31 + id);
+        GeneratedMatch match = new GeneratedMatch();
+        match.teamA = 1 + random.nextInt(teams);
+        match.teamB = 1 + (match.teamA + random.nextInt(teams - 1)) % teams;
+        match.scorers = new int[goalsPerMatch];
+        match.minutes = new int[goalsPerMatch];
+        match.ownGoals = new boolean[goalsPerMatch];
+        for (int goal = 0; goal < goalsPerMatch; goal++) {
+            boolean byTeamA = random.nextBoolean();
+            int scorerTeam = byTeamA ? match.teamA : match.teamB;
+            match.scorers[goal] = playerId(scorerTeam, 1 + random.nextInt(playersPerTeam - 1));
+            match.minutes[goal] = random.nextInt(LAST_MINUTE + 1);
+            match.ownGoals[goal] = random.nextInt(100) < OWN_GOAL_PERCENT;
+            if (byTeamA != match.ownGoals[goal]) {
+                match.scoreA++;
+            } else {
+                match.scoreB++;
+            }
+        }
+        return match;
+    }
+
+    private static void copy(CopyManager copyManager, String sql, RowWriter writer) throws SQLException {
+        CopyIn copyIn = copyManager.copyIn(sql);
+        try {
+            Rows rows = new Rows(copyIn);
+            writer.write(rows);
+            rows.flush();
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static class GeneratedMatch {
+        int teamA;
+        int teamB;
+        int scoreA;
+        int scoreB;
+        int[] scorers;
+        int[] minutes;
+        boolean[] ownGoals;
+    }
+
+    private interface RowWriter {
+        void write(Rows rows) throws SQLException;
+    }
+
+    private static class Rows {
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE);
+
+        Rows(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append('\t');
+                }
+                buffer.append(values[i] instanceof LocalDateTime datetime ? datetime.toString().replace('T', ' ')
+                        : values[i]);
+            }
+            buffer.append('\n');
+            if (buffer.length() >= COPY_BUFFER_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package load;
+
+import app.foot.FootApi;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fails when the p99 latency of a read endpoint exceeds its recorded baseline by more than load.max-regression-percent.
+ * Run with -Dload.record-baseline=true to write the measured latencies as the new baseline.
+ */
+@Slf4j
+class LatencyRegressionTest {
+    private static final int[] MATCH_COUNTS = Arrays.stream(
+                    System.getProperty("load.dataset-matches", "10000,100000,400000").split(","))
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    private static final int TEAMS = Integer.getInteger("load.dataset-teams", 100);
+    private static final int PLAYERS_PER_TEAM = Integer.getInteger("load.dataset-players-per-team", 25);
+    private static final int GOALS_PER_MATCH = Integer.getInteger("load.dataset-goals-per-match", 5);
+    private static final long SEED = Long.getLong("load.dataset-seed", 42);
+    private static final int WARM_UP_REQUESTS = Integer.getInteger("load.warm-up-requests", 1000);
+    private static final int MEASURED_REQUESTS = Integer.getInteger("load.measured-requests", 1000);
+    private static final double MAX_REGRESSION_PERCENT = Double.parseDouble(
+            System.getProperty("load.max-regression-percent", "50"));
+    private static final double REGRESSION_SLACK_MS = Double.parseDouble(
+            System.getProperty("load.regression-slack-ms", "2"));
+    private static final Path BASELINE = Path.of(
+            System.getProperty("load.baseline", "src/test/resources/load/latency-baseline.properties"));
+    private static final boolean RECORD_BASELINE = Boolean.getBoolean("load.record-baseline");
+
+    @Test
+    void latencies_do_not_regress() throws Exception {
+        Properties baseline = new Properties();
+        if (Files.exists(BASELINE)) {
+            try (Reader reader = Files.newBufferedReader(BASELINE)) {
+                baseline.load(reader);
+            }
+        }
+        Properties measured = new Properties();
+        List<String> regressions = new ArrayList<>();
+        for (int matchCount : MATCH_COUNTS) {
+            DatasetGenerator dataset = DatasetGenerator.builder()
+                    .seed(SEED)
+                    .teams(TEAMS)
+                    .playersPerTeam(PLAYERS_PER_TEAM)
+                    .matches(matchCount)
+                    .goalsPerMatch(GOALS_PER_MATCH)
+                    .build();
+            String schema = "scale_" + matchCount;
+            load(schema, dataset);
+            measure(schema, matchCount).forEach((endpoint, latency) -> {
+                String key = matchCount + "." + endpoint;
+                log.info("{} matches, {}: {}", matchCount, endpoint, latency);
+                measured.setProperty(key + ".p50-ms", String.format(Locale.ROOT, "%.2f", latency.p50Ms()));
+                measured.setProperty(key + ".p99-ms", String.format(Locale.ROOT, "%.2f", latency.p99Ms()));
+                String baselineP99 = baseline.getProperty(key + ".p99-ms");
+                if (baselineP99 == null) {
+                    log.warn("No baseline for {}", key);
+                } else if (isRegression(Double.parseDouble(baselineP99), latency.p99Ms())) {
+                    regressions.add(String.format(Locale.ROOT, "%s: p99 %.2f ms, baseline %s ms",
+                            key, latency.p99Ms(), baselineP99));
+                }
+            });
+        }
+        if (RECORD_BASELINE) {
+            Files.createDirectories(BASELINE.getParent());
+            try (Writer writer = Files.newBufferedWriter(BASELINE)) {
+                measured.store(writer, "latencies measured by LatencyRegressionTest, in milliseconds");
+            }
+        } else {
+            assertTrue(regressions.isEmpty(), String.join("\n", regressions));
+        }
+    }
+
+    private static boolean isRegression(double baselineMs, double measuredMs) {
+        return measuredMs > baselineMs * (1 + MAX_REGRESSION_PERCENT / 100)
+                && measuredMs > baselineMs + REGRESSION_SLACK_MS;
+    }
+
+    // the schema comment tells which dataset was loaded, so it is only generated again when settings change
+    private static void load(String schema, DatasetGenerator dataset) {
+        try (ConfigurableApplicationContext context = start(schema, WebApplicationType.NONE)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            String loaded = jdbcTemplate.queryForObject(
+                    "select obj_description(to_regnamespace(?), 'pg_namespace')", String.class, schema);
+            if (dataset.describe().equals(loaded)) {
+                return;
+            }
+            long start = System.nanoTime();
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                dataset.load(connection);
+                return null;
+            });
+            jdbcTemplate.execute("comment on schema " + schema + " is '" + dataset.describe() + "'");
+            log.info("Loaded {} goals into {} in {} ms",
+                    dataset.goals(), schema, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private static Map<String, Latency> measure(String schema, int matchCount) throws Exception {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Map<String, Supplier<String>> paths = new LinkedHashMap<>();
+        paths.put("players", () -> "/players?pageSize=20");
+        paths.put("matches", () -> "/matches?pageSize=10");
+        paths.put("matches-without-scorers", () -> "/matches?pageSize=10&withScorers=false");
+        paths.put("match", () -> "/matches/" + (1 + random.nextInt(matchCount)));
+        paths.put("top-scorers", () -> "/scorers/top?limit=10");
+        paths.put("standings", () -> "/standings");
+
+        Map<String, Latency> latencies = new LinkedHashMap<>();
+        try (ConfigurableApplicationContext context = start(schema, WebApplicationType.SERVLET)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newHttpClient();
+            for (Map.Entry<String, Supplier<String>> path : paths.entrySet()) {
+                for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+                    send(client, port, path.getValue().get());
+                }
+                long[] nanos = new long[MEASURED_REQUESTS];
+                for (int i = 0; i < MEASURED_REQUESTS; i++) {
+                    long start = System.nanoTime();
+                    send(client, port, path.getValue().get());
+                    nanos[i] = System.nanoTime() - start;
+                }
+                Arrays.sort(nanos);
+                latencies.put(path.getKey(), new Latency(percentile(nanos, 0.50) / 1e6, percentile(nanos, 0.99) / 1e6));
+            }
+        }
+        return latencies;
+    }
+
+    private static ConfigurableApplicationContext start(String schema, WebApplicationType type) {
+        return new SpringApplicationBuilder(FootApi.class)
+                .web(type)
+                .properties("server.port=0",
+                        "spring.datasource.hikari.schema=" + schema,
+                        "spring.flyway.schemas=" + schema)
+                .run();
+    }
+
+    private static void send(HttpClient client, int port, String path) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertEquals(200, response.statusCode(), path);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+    }
+
+    private record Latency(double p50Ms, double p99Ms) {
+        @Override
+        public String toString() {
+            return String.format("p50 %.2f ms, p99 %.2f ms", p50Ms, p99Ms);
+        }
+    }
+}
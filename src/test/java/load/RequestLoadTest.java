@@ -0,0 +1,143 @@
+package load;
+
+import app.foot.FootApi;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares Tomcat worker threads and virtual threads under increasing numbers of concurrent clients.
+ * A level is sustained when no request fails and the 99th percentile latency stays under load.max-p99-ms.
+ */
+@Slf4j
+class RequestLoadTest {
+    private static final int[] CONCURRENCY_LEVELS = Arrays.stream(
+                    System.getProperty("load.concurrency", "50,100,200,400,800").split(","))
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    private static final Duration LEVEL_DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 10));
+    private static final Duration WARM_UP_DURATION = Duration.ofSeconds(5);
+    private static final long MAX_P99_NANOS = Duration.ofMillis(Long.getLong("load.max-p99-ms", 500)).toNanos();
+    private static final List<String> PATHS = List.of(
+            "/players?pageSize=20",
+            "/matches?pageSize=10&withScorers=false");
+
+    @Test
+    void compare_platform_and_virtual_threads() throws Exception {
+        Map<String, List<LevelResult>> resultsByMode = new LinkedHashMap<>();
+        resultsByMode.put("platform", run(false));
+        resultsByMode.put("virtual", run(true));
+
+        resultsByMode.forEach((mode, results) -> {
+            results.forEach(result -> log.info("{} threads: {}", mode, result));
+            log.info("{} threads: max sustained concurrency {}", mode, results.stream()
+                    .filter(LevelResult::isSustained)
+                    .mapToInt(LevelResult::concurrency)
+                    .max()
+                    .orElse(0));
+        });
+        resultsByMode.forEach((mode, results) -> assertEquals(0, results.get(0).errors(), mode));
+    }
+
+    private static List<LevelResult> run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(FootApi.class)
+                .properties("server.port=0", "foot.threads.virtual=" + virtualThreads)
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            List<HttpRequest> requests = PATHS.stream()
+                    .map(path -> HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build())
+                    .toList();
+
+            runLevel(client, requests, CONCURRENCY_LEVELS[0], WARM_UP_DURATION);
+            List<LevelResult> results = new ArrayList<>();
+            for (int concurrency : CONCURRENCY_LEVELS) {
+                results.add(runLevel(client, requests, concurrency, LEVEL_DURATION));
+            }
+            return results;
+        }
+    }
+
+    private static LevelResult runLevel(HttpClient client, List<HttpRequest> requests,
+                                        int concurrency, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<ClientResult>> clients = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                int offset = i;
+                clients.add(executor.submit(() -> runClient(client, requests, offset, deadline)));
+            }
+        }
+        List<Long> latencies = new ArrayList<>();
+        int errors = 0;
+        for (Future<ClientResult> result : clients) {
+            latencies.addAll(result.get().latencies());
+            errors += result.get().errors();
+        }
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new LevelResult(concurrency, sorted.length, errors,
+                sorted.length / (double) duration.toSeconds(),
+                percentile(sorted, 0.50), percentile(sorted, 0.99));
+    }
+
+    private static ClientResult runClient(HttpClient client, List<HttpRequest> requests, int offset, long deadline) {
+        List<Long> latencies = new ArrayList<>();
+        int errors = 0;
+        for (int i = offset; System.nanoTime() < deadline; i++) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(requests.get(i % requests.size()),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    errors++;
+                }
+            } catch (Exception e) {
+                errors++;
+            }
+            latencies.add(System.nanoTime() - start);
+        }
+        return new ClientResult(latencies, errors);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+    }
+
+    private record ClientResult(List<Long> latencies, int errors) {
+    }
+
+    private record LevelResult(int concurrency, int requests, int errors, double throughput, long p50, long p99) {
+        boolean isSustained() {
+            return errors == 0 && requests > 0 && p99 <= MAX_P99_NANOS;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d clients, %d requests, %d errors, %.0f req/s, p50 %.1f ms, p99 %.1f ms",
+                    concurrency, requests, errors, throughput, p50 / 1e6, p99 / 1e6);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package unit;
+
+import app.foot.controller.rest.mapper.CursorRestMapper;
+import app.foot.exception.BadRequestException;
+import app.foot.model.Match;
+import app.foot.model.MatchCursor;
+import app.foot.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CursorRestMapperTest {
+    CursorRestMapper subject = new CursorRestMapper();
+
+    @Test
+    void match_cursor_ok() {
+        Instant datetime = Instant.parse("2023-01-01T10:00:00Z");
+
+        MatchCursor actual = subject.toMatchCursor(subject.toRest(Match.builder()
+                .id(1)
+                .datetime(datetime)
+                .build()));
+
+        assertEquals(new MatchCursor(datetime, 1), actual);
+    }
+
+    @Test
+    void player_cursor_ok() {
+        assertEquals(7, subject.toPlayerCursor(subject.toRest(Player.builder()
+                .id(7)
+                .build())));
+    }
+
+    @Test
+    void no_cursor_ok() {
+        assertNull(subject.toMatchCursor(null));
+        assertNull(subject.toPlayerCursor(null));
+    }
+
+    @Test
+    void invalid_cursor_ko() {
+        assertThrows(BadRequestException.class, () -> subject.toMatchCursor("not-a-cursor"));
+        assertThrows(BadRequestException.class, () -> subject.toPlayerCursor("%%"));
+    }
+}
@@ -0,0 +1,122 @@
+package unit;
+
+import app.foot.controller.rest.PlayerScorer;
+import app.foot.controller.validator.GoalBatchValidator;
+import app.foot.exception.BadRequestException;
+import app.foot.repository.MatchRepository;
+import app.foot.repository.projection.GoalScorerCheck;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static utils.TestUtils.*;
+
+public class GoalBatchValidatorTest {
+    MatchRepository matchRepositoryMock = mock(MatchRepository.class);
+    GoalBatchValidator subject = new GoalBatchValidator(matchRepositoryMock);
+
+    private void givenPlayer1(boolean guardian) {
+        when(matchRepositoryMock.findGoalScorerChecks(eq(1), any()))
+                .thenReturn(List.of(new Check(1, 2, 1, guardian, 1)));
+    }
+
+    @Test
+    void accept_ok() {
+        givenPlayer1(false);
+
+        assertDoesNotThrow(() -> subject.accept(1, List.of(scorer1())));
+    }
+
+    //Mandatory attributes not provided : scoreTime
+    @Test
+    void accept_ko() {
+        givenPlayer1(false);
+
+        assertThrowsExceptionMessage("400 BAD_REQUEST : Player#1: score minute is mandatory.",
+                BadRequestException.class, () -> subject.accept(1, List.of(nullScoreTimeScorer())));
+    }
+
+    @Test
+    void when_guardian_throws_exception() {
+        givenPlayer1(true);
+
+        assertThrowsExceptionMessage("400 BAD_REQUEST : Player#1 is a guardian so they cannot score.",
+                BadRequestException.class, () -> subject.accept(1, List.of(scorer1())));
+    }
+
+    @Test
+    void when_score_time_greater_than_90_throws_exception() {
+        givenPlayer1(false);
+
+        assertThrows(BadRequestException.class, () -> subject.accept(1, List.of(
+                scorer1().toBuilder()
+                        .scoreTime(91)
+                        .build())));
+    }
+
+    @Test
+    void when_score_time_less_than_0_throws_exception() {
+        givenPlayer1(false);
+
+        assertThrows(BadRequestException.class, () -> subject.accept(1, List.of(
+                scorer1().toBuilder()
+                        .scoreTime(-1)
+                        .build())));
+    }
+
+    @Test
+    void every_invalid_goal_is_reported() {
+        when(matchRepositoryMock.findGoalScorerChecks(eq(1), any()))
+                .thenReturn(List.of(new Check(1, 2, 1, false, 3)));
+        List<PlayerScorer> scorers = List.of(
+                scorer1().toBuilder().scoreTime(91).build(),
+                scorer1().toBuilder().player(player1().toBuilder().id(404).build()).build());
+
+        assertThrowsExceptionMessage("400 BAD_REQUEST : Player#1 does not play in Match#1."
+                        + " Player#1 cannot score at minute 91, only from minute 0 to 90."
+                        + " Player#404 does not exist.",
+                BadRequestException.class, () -> subject.accept(1, scorers));
+    }
+
+    @Test
+    void unknown_match_ko() {
+        when(matchRepositoryMock.findGoalScorerChecks(eq(404), any())).thenReturn(List.of());
+
+        assertThrowsExceptionMessage("Match#404 not found.",
+                RuntimeException.class, () -> subject.accept(404, List.of(scorer1())));
+    }
+
+    private record Check(int teamAId, int teamBId, Integer playerId, Boolean guardian, Integer playerTeamId)
+            implements GoalScorerCheck {
+        @Override
+        public int getTeamAId() {
+            return teamAId;
+        }
+
+        @Override
+        public int getTeamBId() {
+            return teamBId;
+        }
+
+        @Override
+        public Integer getPlayerId() {
+            return playerId;
+        }
+
+        @Override
+        public Boolean getGuardian() {
+            return guardian;
+        }
+
+        @Override
+        public Integer getPlayerTeamId() {
+            return playerTeamId;
+        }
+    }
+}
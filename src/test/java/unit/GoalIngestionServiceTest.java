@@ -0,0 +1,154 @@
+package unit;
+
+import app.foot.exception.BadRequestException;
+import app.foot.model.GoalTicket;
+import app.foot.model.PlayerScorer;
+import app.foot.repository.MatchRepository;
+import app.foot.service.GoalIngestionService;
+import app.foot.service.PlayerScoreService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GoalIngestionServiceTest {
+    PlayerScoreService scoreServiceMock = mock(PlayerScoreService.class);
+    MatchRepository matchRepositoryMock = mock(MatchRepository.class);
+    PlatformTransactionManager transactionManagerMock = mock(PlatformTransactionManager.class);
+    GoalIngestionService subject;
+
+    GoalIngestionService service(int queueCapacity, long groupDelayMillis) {
+        return service(queueCapacity, groupDelayMillis, 100);
+    }
+
+    GoalIngestionService service(int queueCapacity, long groupDelayMillis, int maxTickets) {
+        when(matchRepositoryMock.existsById(anyInt())).thenReturn(true);
+        subject = new GoalIngestionService(scoreServiceMock, matchRepositoryMock,
+                new TransactionTemplate(transactionManagerMock), queueCapacity, 10, groupDelayMillis, maxTickets);
+        subject.start();
+        return subject;
+    }
+
+    @AfterEach
+    void stop() {
+        subject.stop();
+    }
+
+    private GoalTicket awaitCompletion(GoalTicket ticket) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            GoalTicket current = subject.getTicket(ticket.getId()).orElseThrow();
+            if (current.getStatus() != GoalTicket.Status.PENDING) {
+                return current;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Ticket " + ticket.getId() + " is still pending");
+    }
+
+    @Test
+    void submissions_are_committed_together() throws InterruptedException {
+        service(10, 500);
+
+        GoalTicket first = subject.submit(1, List.of(goal())).orElseThrow();
+        GoalTicket second = subject.submit(2, List.of(goal())).orElseThrow();
+
+        assertEquals(GoalTicket.Status.PENDING, first.getStatus());
+        assertEquals(GoalTicket.Status.COMMITTED, awaitCompletion(first).getStatus());
+        assertEquals(GoalTicket.Status.COMMITTED, awaitCompletion(second).getStatus());
+        verify(transactionManagerMock, times(1)).getTransaction(any());
+        verify(transactionManagerMock, times(1)).commit(any());
+    }
+
+    @Test
+    void failed_group_is_written_one_submission_at_a_time() throws InterruptedException {
+        service(10, 500);
+        when(scoreServiceMock.addGoals(eq(2), any())).thenThrow(new BadRequestException("Players [404] do not exist."));
+
+        GoalTicket first = subject.submit(1, List.of(goal())).orElseThrow();
+        GoalTicket invalid = subject.submit(2, List.of(goal())).orElseThrow();
+        GoalTicket third = subject.submit(3, List.of(goal())).orElseThrow();
+
+        assertEquals(GoalTicket.Status.COMMITTED, awaitCompletion(first).getStatus());
+        GoalTicket failed = awaitCompletion(invalid);
+        assertEquals(GoalTicket.Status.FAILED, failed.getStatus());
+        assertEquals("400 BAD_REQUEST : Players [404] do not exist.", failed.getError());
+        assertEquals(GoalTicket.Status.COMMITTED, awaitCompletion(third).getStatus());
+        verify(transactionManagerMock, times(4)).getTransaction(any());
+        verify(transactionManagerMock, times(2)).commit(any());
+        verify(transactionManagerMock, times(2)).rollback(any());
+    }
+
+    @Test
+    void full_queue_is_refused() throws InterruptedException {
+        service(1, 0);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return List.of();
+        }).when(scoreServiceMock).addGoals(anyInt(), any());
+
+        assertTrue(subject.submit(1, List.of(goal())).isPresent());
+        assertTrue(writing.await(2, TimeUnit.SECONDS));
+        assertTrue(subject.submit(2, List.of(goal())).isPresent());
+        boolean refused = subject.submit(3, List.of(goal())).isEmpty();
+        release.countDown();
+
+        assertTrue(refused);
+    }
+
+    @Test
+    void evicted_ticket_is_not_restored_once_written() throws InterruptedException {
+        service(10, 0, 2);
+        CountDownLatch writingFirst = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch writingSecond = new CountDownLatch(1);
+        CountDownLatch releaseSecond = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writingFirst.countDown();
+            releaseFirst.await();
+            return List.of();
+        }).when(scoreServiceMock).addGoals(eq(1), any());
+        doAnswer(invocation -> {
+            writingSecond.countDown();
+            releaseSecond.await();
+            return List.of();
+        }).when(scoreServiceMock).addGoals(eq(2), any());
+
+        GoalTicket evicted = subject.submit(1, List.of(goal())).orElseThrow();
+        assertTrue(writingFirst.await(2, TimeUnit.SECONDS));
+        subject.submit(2, List.of(goal())).orElseThrow();
+        GoalTicket last = subject.submit(3, List.of(goal())).orElseThrow();
+        releaseFirst.countDown();
+        assertTrue(writingSecond.await(2, TimeUnit.SECONDS));
+        boolean evictedAbsent = subject.getTicket(evicted.getId()).isEmpty();
+        boolean lastPresent = subject.getTicket(last.getId()).isPresent();
+        releaseSecond.countDown();
+
+        assertTrue(evictedAbsent);
+        assertTrue(lastPresent);
+    }
+
+    private static PlayerScorer goal() {
+        return PlayerScorer.builder()
+                .minute(10)
+                .isOwnGoal(false)
+                .build();
+    }
+}
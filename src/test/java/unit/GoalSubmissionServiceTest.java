@@ -0,0 +1,92 @@
+package unit;
+
+import app.foot.exception.BadRequestException;
+import app.foot.model.Match;
+import app.foot.model.PlayerScorer;
+import app.foot.repository.GoalSubmissionRepository;
+import app.foot.service.GoalSubmissionService;
+import app.foot.service.MatchService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GoalSubmissionServiceTest {
+    MatchService matchServiceMock = mock(MatchService.class);
+    GoalSubmissionService subject = new GoalSubmissionService(
+            matchServiceMock, mock(GoalSubmissionRepository.class), 60, 10);
+    List<PlayerScorer> goals = List.of(PlayerScorer.builder().minute(10).isOwnGoal(false).build());
+
+    @Test
+    void replay_returns_first_response() {
+        Match match = Match.builder().id(1).build();
+        when(matchServiceMock.addGoals(1, goals, "key")).thenReturn(match);
+
+        Match first = subject.addGoals(1, goals, "key");
+        Match replayed = subject.addGoals(1, goals, "key");
+
+        assertSame(match, first);
+        assertSame(match, replayed);
+        verify(matchServiceMock, times(1)).addGoals(anyInt(), any(), anyString());
+    }
+
+    @Test
+    void concurrent_replay_waits_for_first_submission() throws Exception {
+        Match match = Match.builder().id(1).build();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(matchServiceMock.addGoals(1, goals, "key")).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return match;
+        });
+
+        CompletableFuture<Match> first = CompletableFuture.supplyAsync(() -> subject.addGoals(1, goals, "key"));
+        assertTrue(writing.await(2, TimeUnit.SECONDS));
+        CompletableFuture<Match> replayed = CompletableFuture.supplyAsync(() -> subject.addGoals(1, goals, "key"));
+        Thread.sleep(100);
+        assertFalse(replayed.isDone());
+        release.countDown();
+
+        assertSame(match, first.get(2, TimeUnit.SECONDS));
+        assertSame(match, replayed.get(2, TimeUnit.SECONDS));
+        verify(matchServiceMock, times(1)).addGoals(anyInt(), any(), anyString());
+    }
+
+    @Test
+    void failed_submission_can_be_sent_again() {
+        Match match = Match.builder().id(1).build();
+        when(matchServiceMock.addGoals(1, goals, "key"))
+                .thenThrow(new BadRequestException("Players [404] do not exist."))
+                .thenReturn(match);
+
+        assertThrows(BadRequestException.class, () -> subject.addGoals(1, goals, "key"));
+
+        assertSame(match, subject.addGoals(1, goals, "key"));
+    }
+
+    @Test
+    void key_of_another_match_ko() {
+        when(matchServiceMock.addGoals(1, goals, "key")).thenReturn(Match.builder().id(1).build());
+        subject.addGoals(1, goals, "key");
+
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> subject.addGoals(2, goals, "key"));
+        assertEquals("400 BAD_REQUEST : Idempotency key key was already used for Match#1.", exception.getMessage());
+    }
+}
@@ -0,0 +1,97 @@
+package unit;
+
+import app.foot.model.Match;
+import app.foot.model.Player;
+import app.foot.model.PlayerScorer;
+import app.foot.model.TeamMatch;
+import app.foot.service.MatchCache;
+import app.foot.service.event.GoalsAddedEvent;
+import app.foot.service.event.PlayersUpdatedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MatchCacheTest {
+    MatchCache subject = new MatchCache(2);
+    AtomicInteger loadCount = new AtomicInteger();
+
+    private Match load(int matchId) {
+        loadCount.incrementAndGet();
+        return Match.builder().id(matchId).build();
+    }
+
+    @Test
+    void read_through_ok() {
+        Match first = subject.get(1, this::load);
+        Match second = subject.get(1, this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loadCount.get());
+        assertEquals(1, subject.getHitCount());
+        assertEquals(1, subject.getMissCount());
+    }
+
+    @Test
+    void least_recently_used_is_evicted() {
+        subject.get(1, this::load);
+        subject.get(2, this::load);
+        subject.get(1, this::load);
+        subject.get(3, this::load);
+        subject.get(1, this::load);
+        subject.get(2, this::load);
+
+        assertEquals(2, subject.size());
+        assertEquals(2, subject.getEvictionCount());
+        assertEquals(4, loadCount.get());
+    }
+
+    @Test
+    void goals_added_invalidates_match() {
+        subject.get(1, this::load);
+
+        subject.onGoalsAdded(GoalsAddedEvent.builder().matchId(1).scorers(List.of()).build());
+        subject.get(1, this::load);
+
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void updated_scorers_invalidate_their_matches() {
+        subject.get(1, matchId -> {
+            loadCount.incrementAndGet();
+            return Match.builder()
+                    .id(matchId)
+                    .teamA(TeamMatch.builder()
+                            .scorers(List.of(PlayerScorer.builder()
+                                    .player(Player.builder().id(3).build())
+                                    .build()))
+                            .build())
+                    .teamB(TeamMatch.builder().scorers(List.of()).build())
+                    .build();
+        });
+        subject.get(2, this::load);
+
+        subject.onPlayersUpdated(new PlayersUpdatedEvent(List.of(Player.builder().id(3).build()), Map.of(1, 2L)));
+        subject.get(1, this::load);
+        subject.get(2, this::load);
+
+        assertEquals(3, loadCount.get());
+    }
+
+    @Test
+    void match_invalidated_while_loading_is_not_cached() {
+        subject.get(1, matchId -> {
+            subject.invalidate(matchId);
+            return load(matchId);
+        });
+        subject.get(1, this::load);
+
+        assertEquals(2, loadCount.get());
+        assertEquals(0, subject.getHitCount());
+    }
+}
@@ -0,0 +1,148 @@
+package unit;
+
+import app.foot.exception.BadRequestException;
+import app.foot.model.GoalEvent;
+import app.foot.model.Player;
+import app.foot.model.PlayerScorer;
+import app.foot.model.Team;
+import app.foot.service.MatchEventService;
+import app.foot.service.event.GoalsAddedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MatchEventServiceTest {
+    MatchEventService subject = new MatchEventService(3, 10, 1000, Runnable::run);
+    List<GoalEvent> received = new ArrayList<>();
+
+    private static GoalsAddedEvent goals(long version, int scoreA, int scoreB, Goal... goals) {
+        return GoalsAddedEvent.builder()
+                .matchId(1)
+                .teamA(Team.builder().id(1).name("E1").build())
+                .teamB(Team.builder().id(2).name("E2").build())
+                .scoreA(scoreA)
+                .scoreB(scoreB)
+                .version(version)
+                .scorers(Arrays.stream(goals)
+                        .map(goal -> PlayerScorer.builder()
+                                .player(Player.builder().id(1).name("J1").teamName(goal.teamName()).build())
+                                .minute(10)
+                                .isOwnGoal(goal.ownGoal())
+                                .build())
+                        .toList())
+                .scorerTeamIds(Arrays.stream(goals)
+                        .map(Goal::teamId)
+                        .toList())
+                .build();
+    }
+
+    private static Goal scorer(int teamId, boolean ownGoal) {
+        return new Goal(teamId, "E" + teamId, ownGoal);
+    }
+
+    private record Goal(int teamId, String teamName, boolean ownGoal) {
+    }
+
+    private static List<String> ids(List<GoalEvent> events) {
+        return events.stream().map(GoalEvent::getId).toList();
+    }
+
+    @Test
+    void goals_are_sent_with_running_score() {
+        subject.subscribe(1, null, received::add, () -> {});
+
+        subject.onGoalsAdded(goals(5, 2, 1, scorer(1, false), scorer(1, true)));
+
+        assertEquals(List.of("5-0", "5-1"), ids(received));
+        assertEquals(2, received.get(0).getScoreA());
+        assertEquals(0, received.get(0).getScoreB());
+        assertEquals(2, received.get(1).getScoreA());
+        assertEquals(1, received.get(1).getScoreB());
+    }
+
+    @Test
+    void goals_are_counted_by_team_id() {
+        subject.subscribe(1, null, received::add, () -> {});
+
+        subject.onGoalsAdded(goals(5, 1, 1, new Goal(1, "Renamed E1", false), new Goal(2, "E1", false)));
+
+        assertEquals(1, received.get(0).getScoreA());
+        assertEquals(0, received.get(0).getScoreB());
+        assertEquals(1, received.get(1).getScoreA());
+        assertEquals(1, received.get(1).getScoreB());
+    }
+
+    @Test
+    void missed_goals_are_replayed() {
+        subject.onGoalsAdded(goals(5, 2, 0, scorer(1, false), scorer(1, false)));
+        subject.onGoalsAdded(goals(7, 2, 1, scorer(2, false)));
+
+        subject.subscribe(1, "5-0", received::add, () -> {});
+
+        assertEquals(List.of("5-1", "7-0"), ids(received));
+    }
+
+    @Test
+    void new_subscriber_only_gets_new_goals() {
+        subject.onGoalsAdded(goals(5, 1, 0, scorer(1, false)));
+
+        subject.subscribe(1, null, received::add, () -> {});
+        subject.onGoalsAdded(goals(7, 1, 1, scorer(2, false)));
+
+        assertEquals(List.of("7-0"), ids(received));
+    }
+
+    @Test
+    void cancelled_or_failing_subscriber_is_dropped() {
+        List<GoalEvent> failing = new ArrayList<>();
+        Runnable unsubscribe = subject.subscribe(1, null, received::add, () -> {}).orElseThrow();
+        subject.subscribe(1, null, event -> {
+            failing.add(event);
+            throw new IllegalStateException("closed");
+        }, () -> {});
+
+        subject.onGoalsAdded(goals(5, 1, 0, scorer(1, false)));
+        unsubscribe.run();
+        subject.onGoalsAdded(goals(7, 2, 0, scorer(1, false)));
+
+        assertEquals(List.of("5-0"), ids(received));
+        assertEquals(List.of("5-0"), ids(failing));
+    }
+
+    @Test
+    void invalid_last_event_id_ko() {
+        assertThrows(BadRequestException.class, () -> subject.subscribe(1, "last", received::add, () -> {}));
+    }
+
+    @Test
+    void channel_without_subscribers_makes_room() {
+        MatchEventService bounded = new MatchEventService(3, 1, 1000, Runnable::run);
+        Runnable unsubscribe = bounded.subscribe(1, null, received::add, () -> {}).orElseThrow();
+
+        assertTrue(bounded.subscribe(2, null, received::add, () -> {}).isEmpty());
+        unsubscribe.run();
+        assertTrue(bounded.subscribe(2, null, received::add, () -> {}).isPresent());
+    }
+
+    @Test
+    void subscribers_are_closed_on_destroy() {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        MatchEventService stopped = new MatchEventService(3, 10, 1000, executor);
+        List<Integer> closed = new ArrayList<>();
+        stopped.subscribe(1, null, received::add, () -> closed.add(1));
+        stopped.subscribe(2, null, received::add, () -> closed.add(2));
+
+        stopped.destroy();
+
+        assertEquals(List.of(1, 2), closed);
+        assertTrue(executor.isTerminated());
+    }
+}
@@ -4,16 +4,23 @@ import app.foot.model.Match;
 import app.foot.model.PlayerScorer;
 import app.foot.model.TeamMatch;
 import app.foot.repository.entity.MatchEntity;
+import app.foot.repository.entity.PlayerScoreEntity;
 import app.foot.repository.mapper.MatchMapper;
 import app.foot.repository.mapper.PlayerMapper;
 import app.foot.repository.mapper.TeamMapper;
+import app.foot.repository.projection.MatchRow;
+import app.foot.repository.projection.ScorerRow;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static utils.TestUtils.*;
 
@@ -37,6 +44,8 @@ public class MatchMapperTest {
                 .teamA(teamBarea())
                 .teamB(teamGhana())
                 .scorers(List.of(scorerRakoto(playerEntityRakoto(teamBarea()))))
+                .scoreA(1)
+                .scoreB(0)
                 .build());
 
         assertEquals(
@@ -53,4 +62,57 @@ public class MatchMapperTest {
                                 .build())
                         .build(), actual);
     }
+
+    @Test
+    void own_goal_counts_for_opponent() {
+        PlayerScoreEntity ownGoal = PlayerScoreEntity.builder()
+                .player(playerEntityRakoto(teamBarea()))
+                .minute(10)
+                .ownGoal(true)
+                .build();
+
+        assertFalse(MatchMapper.isGoalFor(teamBarea(), ownGoal));
+        assertTrue(MatchMapper.isGoalFor(teamGhana(), ownGoal));
+    }
+
+    @Test
+    void to_domain_without_scorers_ok() {
+        when(teamMapper.toDomain(teamBarea())).thenReturn(teamModelBarea(teamBarea()));
+        when(teamMapper.toDomain(teamGhana())).thenReturn(teamModelGhana(teamGhana()));
+
+        Match actual = subject.toDomainWithoutScorers(MatchEntity.builder()
+                .teamA(teamBarea())
+                .teamB(teamGhana())
+                .scoreA(2)
+                .scoreB(1)
+                .build());
+
+        assertEquals(2, actual.getTeamA().getScore());
+        assertEquals(1, actual.getTeamB().getScore());
+        assertNull(actual.getTeamA().getScorers());
+        verifyNoInteractions(playerMapper);
+    }
+
+    @Test
+    void to_domain_from_rows_ok() {
+        MatchRow match = new MatchRow(1, null, "S1", 1, 0, 1, 1, "Barea", 2, "Ghana");
+        ScorerRow ownGoal = new ScorerRow(1, 10, true, 1, "Rakoto", false, 1, "Barea");
+        PlayerScorer scorer = PlayerScorer.builder().minute(10).isOwnGoal(true).build();
+        when(playerMapper.toDomain(ownGoal)).thenReturn(scorer);
+        when(teamMapper.toDomain(1, "Barea")).thenReturn(teamModelBarea(teamBarea()));
+        when(teamMapper.toDomain(2, "Ghana")).thenReturn(teamModelGhana(teamGhana()));
+
+        Match actual = subject.toDomain(match, List.of(ownGoal));
+
+        assertEquals(TeamMatch.builder()
+                .team(teamModelBarea(teamBarea()))
+                .score(0)
+                .scorers(List.of())
+                .build(), actual.getTeamA());
+        assertEquals(TeamMatch.builder()
+                .team(teamModelGhana(teamGhana()))
+                .score(1)
+                .scorers(List.of(scorer))
+                .build(), actual.getTeamB());
+    }
 }
@@ -0,0 +1,141 @@
+package unit;
+
+import app.foot.model.Match;
+import app.foot.model.Player;
+import app.foot.model.PlayerScorer;
+import app.foot.model.Team;
+import app.foot.model.TeamMatch;
+import app.foot.repository.snapshot.MatchSnapshot;
+import app.foot.repository.snapshot.MatchSnapshotWriter;
+import app.foot.service.MatchService;
+import app.foot.service.MatchSnapshotService;
+import app.foot.service.MatchSnapshotStore;
+import app.foot.service.event.GoalsAddedEvent;
+import app.foot.service.event.PlayersUpdatedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MatchSnapshotTest {
+    @TempDir
+    Path directory;
+
+    private static Team team(int id) {
+        return Team.builder().id(id).name("E" + id).build();
+    }
+
+    private static Player player(int id, int teamId) {
+        return Player.builder().id(id).name("J" + id).teamName("E" + teamId).isGuardian(false).build();
+    }
+
+    private static Match match(int id, long version, PlayerScorer... scorersA) {
+        return Match.builder()
+                .id(id)
+                .stadium(id % 2 == 0 ? null : "S" + id)
+                .datetime(Instant.parse("2023-01-01T10:00:00.123456Z").plusSeconds(id))
+                .version(version)
+                .teamA(TeamMatch.builder().team(team(1)).score(scorersA.length).scorers(List.of(scorersA)).build())
+                .teamB(TeamMatch.builder().team(team(2)).score(1).scorers(List.of(PlayerScorer.builder()
+                        .player(player(1, 1))
+                        .minute(null)
+                        .isOwnGoal(true)
+                        .build())).build())
+                .build();
+    }
+
+    private static PlayerScorer goal(int playerId, int minute) {
+        return PlayerScorer.builder().player(player(playerId, 1)).minute(minute).isOwnGoal(false).build();
+    }
+
+    private MatchSnapshot write(Match... matches) throws IOException {
+        return write(0, matches);
+    }
+
+    private MatchSnapshot write(long matchesVersion, Match... matches) throws IOException {
+        Path path = directory.resolve("matches.bin");
+        try (MatchSnapshotWriter writer = new MatchSnapshotWriter(path, matchesVersion)) {
+            for (Match match : matches) {
+                writer.write(match);
+            }
+            writer.finish();
+        }
+        return MatchSnapshot.open(path);
+    }
+
+    @Test
+    void read_written_matches_ok() throws IOException {
+        Match match1 = match(1, 10, goal(1, 10), goal(2, 20));
+        Match match2 = match(2, 11);
+        Match match5 = match(5, 12, goal(2, 90));
+
+        MatchSnapshot actual = write(12, match1, match2, match5);
+
+        assertEquals(3, actual.size());
+        assertEquals(12, actual.getMatchesVersion());
+        assertEquals(Optional.of(match1), actual.findById(1));
+        assertEquals(Optional.of(match2), actual.findById(2));
+        assertEquals(Optional.of(match5), actual.findById(5));
+        assertEquals(Optional.empty(), actual.findById(3));
+        assertEquals(Optional.empty(), actual.findById(6));
+    }
+
+    @Test
+    void write_unordered_matches_ko() throws IOException {
+        try (MatchSnapshotWriter writer = new MatchSnapshotWriter(directory.resolve("matches.bin"), 0)) {
+            writer.write(match(2, 1));
+
+            assertThrows(IllegalArgumentException.class, () -> writer.write(match(1, 1)));
+        }
+    }
+
+    @Test
+    void matches_updated_after_snapshot_are_not_read_from_it() throws IOException {
+        MatchSnapshotStore subject = new MatchSnapshotStore(true);
+        Match match1 = match(1, 10, goal(1, 10));
+        Match match2 = match(2, 11);
+        subject.replace(write(match1, match2), Instant.now());
+
+        subject.onGoalsAdded(GoalsAddedEvent.builder().matchId(1).version(12).scorers(List.of()).build());
+        Player renamed = Player.builder().id(1).name("Renamed").teamName("E1").isGuardian(true).build();
+        subject.onPlayersUpdated(new PlayersUpdatedEvent(List.of(renamed), Map.of(2, 13L)));
+
+        assertEquals(Optional.empty(), subject.findById(1));
+        Match actual = subject.findById(2).orElseThrow();
+        assertEquals(renamed, actual.getTeamB().getScorers().get(0).getPlayer());
+        assertEquals(13, actual.getVersion());
+
+        subject.replace(write(match(1, 12, goal(1, 10))), Instant.EPOCH);
+
+        assertEquals(12, subject.findById(1).orElseThrow().getVersion());
+        assertEquals(renamed, subject.findById(1).orElseThrow().getTeamA().getScorers().get(0).getPlayer());
+    }
+
+    @Test
+    void snapshot_out_of_date_is_rewritten_on_startup() throws IOException {
+        MatchService matchServiceMock = mock(MatchService.class);
+        MatchSnapshotStore store = new MatchSnapshotStore(true);
+        MatchSnapshotService subject = new MatchSnapshotService(matchServiceMock, store,
+                directory.resolve("matches.bin"), 0);
+        write(12, match(1, 10));
+
+        when(matchServiceMock.getMatchesVersion()).thenReturn(12L);
+        subject.load();
+        assertEquals(10, store.findById(1).orElseThrow().getVersion());
+
+        when(matchServiceMock.getMatchesVersion()).thenReturn(13L);
+        subject.load();
+        assertEquals(Optional.empty(), store.findById(1));
+        assertEquals(13, MatchSnapshot.open(directory.resolve("matches.bin")).getMatchesVersion());
+    }
+}
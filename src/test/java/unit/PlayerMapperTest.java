@@ -1,10 +1,9 @@
 package unit;
 
+import app.foot.exception.BadRequestException;
 import app.foot.model.Player;
 import app.foot.model.PlayerScorer;
-import app.foot.repository.MatchRepository;
-import app.foot.repository.PlayerRepository;
-import app.foot.repository.TeamRepository;
+import app.foot.repository.TeamDirectory;
 import app.foot.repository.entity.MatchEntity;
 import app.foot.repository.entity.PlayerEntity;
 import app.foot.repository.entity.PlayerScoreEntity;
@@ -27,11 +26,8 @@ import static utils.TestUtils.teamBarea;
 import static utils.TestUtils.teamGhana;
 
 public class PlayerMapperTest {
-    public static final int MATCH_ID = 1;
-    MatchRepository matchRepositoryMock = mock(MatchRepository.class);
-    PlayerRepository playerRepositoryMock = mock(PlayerRepository.class);
-    TeamRepository teamRepositoryMock = mock(TeamRepository.class);
-    PlayerMapper subject = new PlayerMapper(matchRepositoryMock, playerRepositoryMock, teamRepositoryMock);
+    TeamDirectory teamDirectoryMock = mock(TeamDirectory.class);
+    PlayerMapper subject = new PlayerMapper(teamDirectoryMock);
 
     private static PlayerEntity entityRakoto() {
         return playerEntityRakoto(teamBarea());
@@ -82,12 +78,8 @@ public class PlayerMapperTest {
                 .datetime(now)
                 .stadium("Mahamasina")
                 .build();
-        when(playerRepositoryMock.findById(1))
-                .thenReturn(Optional.of(playerEntityRakoto(teamBarea())));
-        when(matchRepositoryMock.findById(1))
-                .thenReturn(Optional.of(matchEntity1));
 
-        PlayerScoreEntity actual = subject.toEntity(MATCH_ID, PlayerScorer.builder()
+        PlayerScoreEntity actual = subject.toEntity(matchEntity1, playerEntityRakoto(teamBarea()), PlayerScorer.builder()
                 .isOwnGoal(false)
                 .minute(10)
                 .player(Player.builder()
@@ -109,8 +101,8 @@ public class PlayerMapperTest {
 
     @Test
     void player_domain_to_entity_ok() {
-        when(teamRepositoryMock.findByName("Barea"))
-                .thenReturn(teamBarea());
+        when(teamDirectoryMock.findByName("Barea"))
+                .thenReturn(Optional.of(teamBarea()));
 
         PlayerEntity expected = playerEntityRakoto(teamBarea());
         PlayerEntity actual = subject.toEntity(Player.builder()
@@ -123,10 +115,22 @@ public class PlayerMapperTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void player_domain_with_unknown_team_to_entity_ko() {
+        when(teamDirectoryMock.findByName("Bafana"))
+                .thenReturn(Optional.empty());
+
+        assertThrows(BadRequestException.class, () -> subject.toEntity(Player.builder()
+                .name("Rakoto")
+                .teamName("Bafana")
+                .isGuardian(false)
+                .build()));
+    }
+
     @Test
     void player_domain_to_entity_ko() {
-        when(teamRepositoryMock.findByName("Barea"))
-                .thenReturn(teamBarea());
+        when(teamDirectoryMock.findByName("Barea"))
+                .thenReturn(Optional.of(teamBarea()));
 
         assertThrows(RuntimeException.class, () -> subject.toEntity(Player.builder()
                 .id(1)
@@ -0,0 +1,91 @@
+package unit;
+
+import app.foot.model.Player;
+import app.foot.model.PlayerScorer;
+import app.foot.model.PlayerStats;
+import app.foot.service.PlayerStatsCache;
+import app.foot.service.event.GoalsAddedEvent;
+import app.foot.service.event.PlayersUpdatedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PlayerStatsCacheTest {
+    PlayerStatsCache subject = new PlayerStatsCache(10, 300);
+    List<List<Integer>> loads = new ArrayList<>();
+
+    private Map<Integer, PlayerStats> load(List<Integer> playerIds) {
+        loads.add(playerIds);
+        return playerIds.stream()
+                .filter(playerId -> playerId > 0)
+                .collect(Collectors.toMap(Function.identity(), playerId -> PlayerStats.builder()
+                        .player(Player.builder().id(playerId).build())
+                        .build()));
+    }
+
+    @Test
+    void only_missing_players_are_loaded_at_once() {
+        subject.getAll(List.of(1), this::load);
+
+        Map<Integer, PlayerStats> actual = subject.getAll(List.of(1, 2, 3), this::load);
+
+        assertEquals(List.of(List.of(1), List.of(2, 3)), loads);
+        assertEquals(3, actual.size());
+        assertEquals(1, subject.getHitCount());
+        assertEquals(3, subject.getMissCount());
+    }
+
+    @Test
+    void unknown_players_are_not_cached() {
+        Map<Integer, PlayerStats> actual = subject.getAll(List.of(-1), this::load);
+        subject.getAll(List.of(-1), this::load);
+
+        assertEquals(Map.of(), actual);
+        assertEquals(2, loads.size());
+    }
+
+    @Test
+    void scorers_and_updated_players_are_invalidated() {
+        subject.getAll(List.of(1, 2, 3), this::load);
+
+        subject.onGoalsAdded(GoalsAddedEvent.builder()
+                .matchId(1)
+                .scorers(List.of(PlayerScorer.builder()
+                        .player(Player.builder().id(1).build())
+                        .isOwnGoal(true)
+                        .build()))
+                .build());
+        subject.onPlayersUpdated(new PlayersUpdatedEvent(List.of(Player.builder().id(2).build()), Map.of()));
+        subject.getAll(List.of(1, 2, 3), this::load);
+
+        assertEquals(List.of(1, 2), loads.get(1));
+    }
+
+    @Test
+    void expired_stats_are_loaded_again() {
+        PlayerStatsCache expiring = new PlayerStatsCache(10, 0);
+
+        expiring.getAll(List.of(1), this::load);
+        expiring.getAll(List.of(1), this::load);
+
+        assertEquals(2, loads.size());
+    }
+
+    @Test
+    void stats_invalidated_while_loading_are_not_cached() {
+        subject.getAll(List.of(1), playerIds -> {
+            subject.invalidateAll(playerIds);
+            return load(playerIds);
+        });
+        subject.getAll(List.of(1), this::load);
+
+        assertEquals(2, loads.size());
+        assertEquals(0, subject.getHitCount());
+    }
+}
@@ -0,0 +1,37 @@
+package unit;
+
+import app.foot.model.Standing;
+import app.foot.repository.MatchRepository;
+import app.foot.repository.TeamDirectory;
+import app.foot.repository.entity.TeamEntity;
+import app.foot.repository.mapper.TeamMapper;
+import app.foot.service.StandingService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class StandingServiceTest {
+    MatchRepository matchRepositoryMock = mock(MatchRepository.class);
+    TeamDirectory teamDirectoryMock = mock(TeamDirectory.class);
+    StandingService subject = new StandingService(matchRepositoryMock, teamDirectoryMock, new TeamMapper());
+
+    @Test
+    void teams_without_name_are_ranked_last() {
+        when(teamDirectoryMock.findAll()).thenReturn(List.of(
+                TeamEntity.builder().id(3).build(),
+                TeamEntity.builder().id(2).name("E2").build(),
+                TeamEntity.builder().id(1).build()));
+        when(matchRepositoryMock.findAllStarted(any())).thenReturn(List.of());
+
+        List<Standing> actual = subject.compute();
+
+        assertEquals(List.of(2, 1, 3), actual.stream()
+                .map(standing -> standing.getTeam().getId())
+                .toList());
+    }
+}
@@ -0,0 +1,56 @@
+package unit;
+
+import app.foot.repository.TeamDirectory;
+import app.foot.repository.TeamRepository;
+import app.foot.repository.entity.TeamEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static utils.TestUtils.teamBarea;
+import static utils.TestUtils.teamGhana;
+
+public class TeamDirectoryTest {
+    TeamRepository teamRepositoryMock = mock(TeamRepository.class);
+    TeamDirectory subject = new TeamDirectory(teamRepositoryMock);
+
+    @Test
+    void find_teams_ok() {
+        when(teamRepositoryMock.findAll()).thenReturn(List.of(teamBarea(), teamGhana()));
+
+        assertEquals(Optional.of(teamBarea()), subject.findByName("Barea"));
+        assertEquals(Optional.of(teamGhana()), subject.findById(2));
+        assertEquals(Optional.empty(), subject.findByName("Bafana"));
+        verify(teamRepositoryMock, times(1)).findAll();
+    }
+
+    @Test
+    void unnamed_and_duplicate_teams_ok() {
+        TeamEntity unnamed = TeamEntity.builder().id(3).build();
+        TeamEntity otherBarea = TeamEntity.builder().id(4).name("Barea").build();
+        when(teamRepositoryMock.findAll()).thenReturn(List.of(otherBarea, unnamed, teamBarea()));
+
+        assertEquals(Optional.empty(), subject.findByName(null));
+        assertEquals(Optional.of(teamBarea()), subject.findByName("Barea"));
+        assertEquals(Optional.of(unnamed), subject.findById(3));
+        assertEquals(Optional.empty(), subject.findById(null));
+    }
+
+    @Test
+    void saved_team_is_found() {
+        when(teamRepositoryMock.findAll()).thenReturn(List.of(teamBarea()));
+        subject.findByName("Barea");
+        when(teamRepositoryMock.save(teamGhana())).thenReturn(teamGhana());
+        when(teamRepositoryMock.findAll()).thenReturn(List.of(teamBarea(), teamGhana()));
+
+        subject.save(teamGhana());
+
+        assertEquals(Optional.of(teamGhana()), subject.findByName("Ghana"));
+    }
+}
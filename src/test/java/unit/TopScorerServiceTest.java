@@ -0,0 +1,73 @@
+package unit;
+
+import app.foot.exception.BadRequestException;
+import app.foot.model.Player;
+import app.foot.model.PlayerScorer;
+import app.foot.model.TopScorer;
+import app.foot.repository.PlayerRepository;
+import app.foot.repository.PlayerScoreRepository;
+import app.foot.repository.TeamDirectory;
+import app.foot.repository.entity.TeamEntity;
+import app.foot.repository.mapper.PlayerMapper;
+import app.foot.service.TopScorerService;
+import app.foot.service.event.GoalsAddedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TopScorerServiceTest {
+    TeamDirectory teamDirectoryMock = mock(TeamDirectory.class);
+    TopScorerService subject = new TopScorerService(
+            mock(PlayerScoreRepository.class),
+            mock(PlayerRepository.class),
+            mock(PlayerMapper.class),
+            teamDirectoryMock);
+
+    @Test
+    void teams_of_the_same_name_are_ranked_apart() {
+        when(teamDirectoryMock.findById(1)).thenReturn(Optional.of(TeamEntity.builder().id(1).name("Twins").build()));
+        when(teamDirectoryMock.findById(2)).thenReturn(Optional.of(TeamEntity.builder().id(2).name("Twins").build()));
+        subject.onGoalsAdded(GoalsAddedEvent.builder()
+                .scorers(List.of(scorer(10), scorer(20), scorer(20)))
+                .scorerTeamIds(List.of(1, 2, 2))
+                .build());
+
+        assertEquals(List.of(10), playerIds(subject.getTopScorers(10, 1)));
+        assertEquals(List.of(20), playerIds(subject.getTopScorers(10, 2)));
+        assertEquals(List.of(20, 10), playerIds(subject.getTopScorers(10, null)));
+    }
+
+    @Test
+    void top_scorers_of_unknown_team_ko() {
+        when(teamDirectoryMock.findById(404)).thenReturn(Optional.empty());
+
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> subject.getTopScorers(10, 404));
+
+        assertEquals("400 BAD_REQUEST : Team#404 does not exist.", exception.getMessage());
+    }
+
+    private static List<Integer> playerIds(List<TopScorer> scorers) {
+        return scorers.stream()
+                .map(scorer -> scorer.getPlayer().getId())
+                .toList();
+    }
+
+    private static PlayerScorer scorer(int playerId) {
+        return PlayerScorer.builder()
+                .player(Player.builder()
+                        .id(playerId)
+                        .name("J" + playerId)
+                        .teamName("Twins")
+                        .build())
+                .minute(10)
+                .isOwnGoal(false)
+                .build();
+    }
+}